@@ -1,11 +1,17 @@
 package com.bobocode.cs;
 
 import com.bobocode.cs.exception.EmptyStackException;
-import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Objects;
 
 /**
  * {@link LinkedStack} is a stack implementation that is based on singly linked generic nodes.
  * A node is implemented as inner static class {@link Node<T>}.
+ * <p>
+ * By default, every {@link LinkedStack#push(Object)} allocates a new node, and every {@link LinkedStack#pop()} leaves
+ * a node for the garbage collector. A stack created with {@link LinkedStack#LinkedStack(int)} recycles nodes instead:
+ * popped nodes are kept in a bounded free list and reused by the next pushes, so a stack which size stays within
+ * the bound does not allocate at all.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -15,6 +21,38 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * @author Serhii Hryhus
  */
 public class LinkedStack<T> implements Stack<T> {
+    private Node<T> head;
+    private int size;
+    private final int maxPooledNodes;
+    private Node<T> freeNodes;
+    private int pooledNodes;
+
+    static class Node<T> {
+        T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public LinkedStack() {
+        this.maxPooledNodes = 0;
+    }
+
+    /**
+     * Creates a stack that recycles nodes. Popped nodes are cleared and kept for reuse until there are maxPooledNodes
+     * of them, the rest are left for the garbage collector.
+     *
+     * @param maxPooledNodes max number of popped nodes that are kept for reuse, 0 disables recycling
+     * @throws IllegalArgumentException if maxPooledNodes is negative
+     */
+    public LinkedStack(int maxPooledNodes) {
+        if (maxPooledNodes < 0) {
+            throw new IllegalArgumentException("Pool capacity should not be negative");
+        }
+        this.maxPooledNodes = maxPooledNodes;
+    }
 
     /**
      * This method creates a stack of provided elements
@@ -24,7 +62,11 @@ public class LinkedStack<T> implements Stack<T> {
      * @return a new stack of elements that were passed as method parameters
      */
     public static <T> LinkedStack<T> of(T... elements) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        var stack = new LinkedStack<T>();
+        for (var element : elements) {
+            stack.push(element);
+        }
+        return stack;
     }
 
     /**
@@ -35,7 +77,11 @@ public class LinkedStack<T> implements Stack<T> {
      */
     @Override
     public void push(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.requireNonNull(element);
+        var newNode = newNode(element);
+        newNode.next = head;
+        head = newNode;
+        size++;
     }
 
     /**
@@ -47,7 +93,15 @@ public class LinkedStack<T> implements Stack<T> {
      */
     @Override
     public T pop() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (head == null) {
+            throw new EmptyStackException();
+        }
+        var top = head;
+        T element = top.element;
+        head = top.next;
+        size--;
+        recycle(top);
+        return element;
     }
 
     /**
@@ -57,7 +111,7 @@ public class LinkedStack<T> implements Stack<T> {
      */
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size;
     }
 
     /**
@@ -67,7 +121,27 @@ public class LinkedStack<T> implements Stack<T> {
      */
     @Override
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method;
+        return head == null;
     }
 
+    private Node<T> newNode(T element) {
+        var node = freeNodes;
+        if (node == null) {
+            return new Node<>(element);
+        }
+        freeNodes = node.next;
+        pooledNodes--;
+        node.element = element;
+        return node;
+    }
+
+    private void recycle(Node<T> node) {
+        if (pooledNodes < maxPooledNodes) {
+            // the element is cleared, so the pool does not keep it from the garbage collector
+            node.element = null;
+            node.next = freeNodes;
+            freeNodes = node;
+            pooledNodes++;
+        }
+    }
 }
@@ -0,0 +1,181 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LockFreeStack} is a thread-safe stack implementation that is based on singly linked nodes, like
+ * {@link LinkedStack}, but it never takes a lock. It is a Treiber stack: both push and pop read the head, prepare
+ * the new head and publish it with a single CAS, retrying if another thread changed the head in between. Since every
+ * push allocates a new node and nodes are never reused, the CAS is not affected by the ABA problem.
+ * <p>
+ * Under a burst of pushes and pops all threads compete for the same head reference, so a failed CAS is followed by an
+ * attempt to use an elimination array. A pushing thread puts its node into a random slot and spins for a while, and a
+ * popping thread takes a node from a random slot. Such a pair of operations cancels out without touching the head at
+ * all. If nobody takes the node in time, the pushing thread withdraws it and goes back to the stack.
+ * <p>
+ * The size is tracked with a {@link LongAdder}, so {@link LockFreeStack#size()} is only an estimate while other
+ * threads modify the stack, and it is exact once they are done. {@link LockFreeStack#isEmpty()} reads the head, so it
+ * is always exact at the moment it is called.
+ * <p>
+ * Null elements are not supported.
+ *
+ * @param <T> generic type parameter
+ */
+public class LockFreeStack<T> implements Stack<T> {
+    private static final int DEFAULT_ELIMINATION_ARRAY_SIZE = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+    private static final int ELIMINATION_SPINS = 128;
+
+    private final AtomicReference<Node<T>> head = new AtomicReference<>();
+    private final LongAdder size = new LongAdder();
+    private final AtomicReferenceArray<Node<T>> eliminationArray;
+
+    public LockFreeStack() {
+        this(DEFAULT_ELIMINATION_ARRAY_SIZE);
+    }
+
+    /**
+     * Creates a stack with an elimination array of a given size. Zero size disables the elimination, so every
+     * operation retries CAS on the head until it succeeds.
+     *
+     * @param eliminationArraySize the number of slots in the elimination array
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LockFreeStack(int eliminationArraySize) {
+        if (eliminationArraySize < 0) {
+            throw new IllegalArgumentException("Elimination array size should not be negative");
+        }
+        this.eliminationArray = eliminationArraySize == 0 ? null : new AtomicReferenceArray<>(eliminationArraySize);
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> LockFreeStack<T> of(T... elements) {
+        var stack = new LockFreeStack<T>();
+        for (var element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    static class Node<T> {
+        final T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param element element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        var newNode = new Node<>(element);
+        while (true) {
+            var oldHead = head.get();
+            newNode.next = oldHead;
+            if (head.compareAndSet(oldHead, newNode)) {
+                size.increment();
+                return;
+            }
+            if (tryEliminatePush(newNode)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the element at the top of the stack and returns it.
+     *
+     * @return the element at the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            var oldHead = head.get();
+            if (oldHead == null) {
+                throw new EmptyStackException();
+            }
+            if (head.compareAndSet(oldHead, oldHead.next)) {
+                size.decrement();
+                return oldHead.element;
+            }
+            var eliminatedNode = tryEliminatePop();
+            if (eliminatedNode != null) {
+                return eliminatedNode.element;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the stack. The result is approximate while the stack is being modified.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * Offers a node to popping threads using a random slot of the elimination array.
+     *
+     * @return true if a popping thread took the node, false if the push should be retried on the stack
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        if (eliminationArray == null) {
+            return false;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        if (!eliminationArray.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationArray.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return !eliminationArray.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node offered by a pushing thread from a random slot of the elimination array.
+     *
+     * @return the node or null if the slot is empty or another thread took it first
+     */
+    private Node<T> tryEliminatePop() {
+        if (eliminationArray == null) {
+            return null;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length());
+        var node = eliminationArray.get(slot);
+        if (node != null && eliminationArray.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+
+/**
+ * {@link PersistentStack} is a stack implementation that is based on an immutable singly linked list (a cons list).
+ * Nodes are never modified after they are created: {@link PersistentStack#push(Object)} creates a new node that
+ * points to the current head, and {@link PersistentStack#pop()} just moves the head to the next node.
+ * <p>
+ * Thanks to that, {@link PersistentStack#snapshot()} takes O(1): a snapshot is a new stack that shares all nodes with
+ * the original one. Further changes of the original stack do not affect the snapshot and vice versa.
+ * <p>
+ * The head is the only mutable field, and it is volatile, so a snapshot can be taken from any thread without
+ * locking, while a single writer thread keeps changing the stack. The size is stored in every node, so the head and
+ * the size are always read consistently.
+ *
+ * @param <T> generic type parameter
+ */
+public class PersistentStack<T> implements Stack<T> {
+    private volatile Node<T> head;
+
+    static final class Node<T> {
+        final T element;
+        final Node<T> next;
+        final int size;
+
+        Node(T element, Node<T> next) {
+            this.element = element;
+            this.next = next;
+            this.size = next == null ? 1 : next.size + 1;
+        }
+    }
+
+    public PersistentStack() {
+    }
+
+    private PersistentStack(Node<T> head) {
+        this.head = head;
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> PersistentStack<T> of(T... elements) {
+        var stack = new PersistentStack<T>();
+        for (var element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    /**
+     * Returns a stack that contains the same elements as this one. It shares all nodes with this stack, so it takes
+     * O(1) regardless of the stack size.
+     *
+     * @return an independent copy of this stack
+     */
+    public PersistentStack<T> snapshot() {
+        return new PersistentStack<>(head);
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public T peek() {
+        var top = head;
+        if (top == null) {
+            throw new EmptyStackException();
+        }
+        return top.element;
+    }
+
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        head = new Node<>(element, head);
+    }
+
+    @Override
+    public T pop() {
+        var top = head;
+        if (top == null) {
+            throw new EmptyStackException();
+        }
+        head = top.next;
+        return top.element;
+    }
+
+    @Override
+    public int size() {
+        var top = head;
+        return top == null ? 0 : top.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("LinkedStack node recycling Test")
+class LinkedStackRecyclingTest {
+    private static final int BATCH = 100;
+    private static final int ROUNDS = 10_000;
+
+    @Test
+    @DisplayName("constructor throws exception when pool capacity is negative")
+    void negativePoolCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LinkedStack<Integer>(-1));
+    }
+
+    @Test
+    @DisplayName("recycling stack matches ArrayDeque for random operations")
+    void randomOperationsMatchArrayDeque() {
+        var stack = new LinkedStack<Integer>(16);
+        var expected = new ArrayDeque<Integer>();
+        var random = new Random(17);
+
+        for (int i = 0; i < 100_000; i++) {
+            if (random.nextInt(100) < 52) {
+                stack.push(i);
+                expected.push(i);
+            } else if (!expected.isEmpty()) {
+                assertThat(stack.pop()).isEqualTo(expected.pop());
+            }
+            assertThat(stack.size()).isEqualTo(expected.size());
+        }
+        while (!expected.isEmpty()) {
+            assertThat(stack.pop()).isEqualTo(expected.pop());
+        }
+        assertThat(stack.isEmpty()).isTrue();
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+    }
+
+    @Test
+    @DisplayName("recycling stack does not allocate nodes in a steady state")
+    void steadyStateAllocation() {
+        long plainBytes = churnAllocatedBytes(new LinkedStack<>());
+        long recyclingBytes = churnAllocatedBytes(new LinkedStack<>(BATCH));
+
+        assertThat(recyclingBytes).isLessThan(plainBytes / 10);
+    }
+
+    private long churnAllocatedBytes(LinkedStack<Integer> stack) {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        var allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        Integer element = 1;
+        churn(stack, element);
+
+        long threadId = Thread.currentThread().getId();
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        churn(stack, element);
+        long after = allocationBean.getThreadAllocatedBytes(threadId);
+        return after - before;
+    }
+
+    private void churn(LinkedStack<Integer> stack, Integer element) {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < BATCH; i++) {
+                stack.push(element);
+            }
+            for (int i = 0; i < BATCH; i++) {
+                stack.pop();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("LockFreeStack Test")
+class LockFreeStackTest {
+
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    @Test
+    @DisplayName("push and pop follow LIFO order in a single thread")
+    void singleThreadOperations() {
+        var stack = LockFreeStack.of(1, 2, 3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        stack.push(4);
+        assertThat(stack.pop()).isEqualTo(4);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("pop throws exception when stack is empty and push throws exception on null")
+    void exceptions() {
+        var stack = new LockFreeStack<Integer>();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new LockFreeStack<>(-1));
+    }
+
+    @Test
+    @DisplayName("concurrent pushes keep all elements")
+    void concurrentPushes() {
+        var stack = new LockFreeStack<Integer>();
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                stack.push(thread * ELEMENTS_PER_THREAD + i);
+            }
+            return null;
+        });
+
+        assertThat(stack.size()).isEqualTo(THREADS * ELEMENTS_PER_THREAD);
+        var popped = new HashSet<Integer>();
+        while (!stack.isEmpty()) {
+            popped.add(stack.pop());
+        }
+        assertThat(popped).hasSize(THREADS * ELEMENTS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("concurrent push and pop bursts neither lose nor duplicate elements")
+    void concurrentPushesAndPops() {
+        concurrentPushesAndPops(new LockFreeStack<>());
+    }
+
+    @Test
+    @DisplayName("concurrent push and pop bursts work without elimination array")
+    void concurrentPushesAndPopsWithoutElimination() {
+        concurrentPushesAndPops(new LockFreeStack<>(0));
+    }
+
+    private void concurrentPushesAndPops(LockFreeStack<Integer> stack) {
+        List<List<Integer>> poppedByThread = runConcurrently(thread -> () -> {
+            var popped = new ArrayList<Integer>();
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                stack.push(thread * ELEMENTS_PER_THREAD + i);
+                if (i % 2 == 1) {
+                    popped.add(stack.pop());
+                    popped.add(stack.pop());
+                }
+            }
+            return popped;
+        });
+
+        var allPopped = new HashSet<Integer>();
+        poppedByThread.forEach(allPopped::addAll);
+        assertThat(allPopped).hasSize(THREADS * ELEMENTS_PER_THREAD);
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.size()).isZero();
+    }
+
+    @SneakyThrows
+    private <R> List<R> runConcurrently(ThreadTask<R> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var barrier = new CyclicBarrier(THREADS);
+            var futures = new ArrayList<Future<R>>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                Callable<R> callable = task.forThread(thread);
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return callable.call();
+                }));
+            }
+            var results = new ArrayList<R>();
+            for (var future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask<R> {
+        Callable<R> forThread(int thread);
+    }
+}
@@ -0,0 +1,88 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("PersistentStack Test")
+class PersistentStackTest {
+
+    @Test
+    @DisplayName("push and pop follow LIFO order")
+    void pushAndPop() {
+        var stack = PersistentStack.of(1, 2, 3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.peek()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        stack.push(4);
+        assertThat(stack.pop()).isEqualTo(4);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("pop and peek throw exception when stack is empty and push throws exception on null")
+    void exceptions() {
+        var stack = new PersistentStack<Integer>();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+    }
+
+    @Test
+    @DisplayName("snapshot is not affected by further changes of the original stack")
+    void snapshotIsIndependent() {
+        var stack = PersistentStack.of(1, 2, 3);
+
+        var snapshot = stack.snapshot();
+        stack.pop();
+        stack.pop();
+        stack.push(10);
+
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.pop()).isEqualTo(3);
+        assertThat(snapshot.pop()).isEqualTo(2);
+        snapshot.push(20);
+        assertThat(stack.size()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(10);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(snapshot.pop()).isEqualTo(20);
+        assertThat(snapshot.pop()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("snapshots taken by a reader thread are always consistent")
+    void concurrentSnapshots() throws InterruptedException {
+        var stack = new PersistentStack<Integer>();
+        int count = 100_000;
+        var inconsistentSnapshots = new int[1];
+
+        var reader = new Thread(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                var snapshot = stack.snapshot();
+                int size = snapshot.size();
+                // elements are pushed in increasing order, so the top of a snapshot is equal to its size minus one
+                if (size > 0 && snapshot.peek() != size - 1) {
+                    inconsistentSnapshots[0]++;
+                }
+                Thread.yield();
+            }
+        });
+        reader.start();
+        for (int i = 0; i < count; i++) {
+            stack.push(i);
+        }
+        reader.join();
+
+        assertThat(inconsistentSnapshots[0]).isZero();
+        assertThat(stack.size()).isEqualTo(count);
+    }
+}
@@ -1,11 +1,14 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
 /**
  * {@link LinkedQueue} implements FIFO {@link Queue}, using singly linked nodes. Nodes are stores in instances of nested
  * class Node. In order to perform operations {@link LinkedQueue#add(Object)} and {@link LinkedQueue#poll()}
  * in a constant time, it keeps to references to the head and tail of the queue.
+ * <p>
+ * By default, every {@link LinkedQueue#add(Object)} allocates a new node, and every {@link LinkedQueue#poll()} leaves
+ * a node for the garbage collector. A queue created with {@link LinkedQueue#LinkedQueue(int)} recycles nodes instead:
+ * polled nodes are kept in a bounded free list and reused by the next adds, so a queue which size stays within
+ * the bound does not allocate at all.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -15,6 +18,39 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * @author Ivan Virchenko
  */
 public class LinkedQueue<T> implements Queue<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private final int maxPooledNodes;
+    private Node<T> freeNodes;
+    private int pooledNodes;
+
+    static class Node<T> {
+        T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public LinkedQueue() {
+        this.maxPooledNodes = 0;
+    }
+
+    /**
+     * Creates a queue that recycles nodes. Polled nodes are cleared and kept for reuse until there are maxPooledNodes
+     * of them, the rest are left for the garbage collector.
+     *
+     * @param maxPooledNodes max number of polled nodes that are kept for reuse, 0 disables recycling
+     * @throws IllegalArgumentException if maxPooledNodes is negative
+     */
+    public LinkedQueue(int maxPooledNodes) {
+        if (maxPooledNodes < 0) {
+            throw new IllegalArgumentException("Pool capacity should not be negative");
+        }
+        this.maxPooledNodes = maxPooledNodes;
+    }
 
     /**
      * Adds an element to the end of the queue.
@@ -22,7 +58,14 @@ public class LinkedQueue<T> implements Queue<T> {
      * @param element the element to add
      */
     public void add(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        var newNode = newNode(element);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
     }
 
     /**
@@ -31,7 +74,18 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return an element that was retrieved from the head or null if queue is empty
      */
     public T poll() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (head == null) {
+            return null;
+        }
+        var first = head;
+        T element = first.element;
+        head = first.next;
+        if (head == null) {
+            tail = null;
+        }
+        size--;
+        recycle(first);
+        return element;
     }
 
     /**
@@ -40,7 +94,7 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return an integer value that is a size of queue
      */
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size;
     }
 
     /**
@@ -49,6 +103,28 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return {@code true} if the queue is empty, returns {@code false} if it's not
      */
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return head == null;
+    }
+
+    private Node<T> newNode(T element) {
+        var node = freeNodes;
+        if (node == null) {
+            return new Node<>(element);
+        }
+        freeNodes = node.next;
+        pooledNodes--;
+        node.element = element;
+        node.next = null;
+        return node;
+    }
+
+    private void recycle(Node<T> node) {
+        if (pooledNodes < maxPooledNodes) {
+            // the element is cleared, so the pool does not keep it from the garbage collector
+            node.element = null;
+            node.next = freeNodes;
+            freeNodes = node;
+            pooledNodes++;
+        }
     }
 }
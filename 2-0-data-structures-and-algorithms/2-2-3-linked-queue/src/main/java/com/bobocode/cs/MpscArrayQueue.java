@@ -0,0 +1,143 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * {@link MpscArrayQueue} is a bounded lock-free FIFO {@link Queue} for any number of producer threads and exactly one
+ * consumer thread. It is based on the same power-of-two array and padded indexes as {@link SpscArrayQueue}, but
+ * producers compete for the tail:
+ * <ul>
+ *     <li>a producer claims a slot by moving the tail index with a CAS, and then publishes the element into the slot
+ *     with release semantics;</li>
+ *     <li>the consumer reads a slot with acquire semantics. If the slot is already claimed but the element is not
+ *     published yet, the consumer spins until it appears, so elements are always polled in the order of claims;</li>
+ *     <li>the consumer clears the slot and moves the head index with release semantics (lazySet), producers read the
+ *     head only when the cached limit of the tail says that the queue may be full.</li>
+ * </ul>
+ * Calling {@link MpscArrayQueue#poll()} from more than one thread breaks the queue.
+ * <p>
+ * Null elements are not supported, since null is returned by {@link MpscArrayQueue#poll()} when the queue is empty.
+ *
+ * @param <T> a generic parameter
+ */
+public class MpscArrayQueue<T> implements Queue<T> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Object[] elements;
+    private final int mask;
+    private final PaddedIndex head = new PaddedIndex();
+    private final PaddedIndex tail = new PaddedIndex();
+
+    /**
+     * Creates a queue with a given capacity, that is rounded up to the nearest power of two.
+     *
+     * @param capacity the minimum number of elements the queue can store
+     * @throws IllegalArgumentException if the capacity is not positive or too big
+     */
+    public MpscArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity should not be greater than " + MAXIMUM_CAPACITY);
+        }
+        int arrayLength = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[arrayLength];
+        this.mask = arrayLength - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Can be called by any number of threads.
+     *
+     * @param element the element to add
+     * @throws NullPointerException  if the element is null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is a free slot. Can be called by any number of threads.
+     * <p>
+     * The cached tail limit is shared by all producers, and it is written without synchronization. It is safe, since
+     * the limit only grows, so a stale value is always too small, and it only makes a producer read the head again.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long currentTail;
+        do {
+            currentTail = tail.getVolatile();
+            if (currentTail >= tail.getCachedOpaque()) {
+                long limit = head.getAcquire() + elements.length;
+                if (currentTail >= limit) {
+                    return false;
+                }
+                tail.setCachedOpaque(limit);
+            }
+        } while (!tail.compareAndSet(currentTail, currentTail + 1));
+        ELEMENT.setRelease(elements, (int) currentTail & mask, element);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head. Must be called only by the consumer thread.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long currentHead = head.getPlain();
+        int index = (int) currentHead & mask;
+        Object element = ELEMENT.getAcquire(elements, index);
+        if (element == null) {
+            if (currentHead == tail.getVolatile()) {
+                return null;
+            }
+            do {
+                Thread.onSpinWait();
+                element = ELEMENT.getAcquire(elements, index);
+            } while (element == null);
+        }
+        elements[index] = null;
+        head.setRelease(currentHead + 1);
+        return (T) element;
+    }
+
+    /**
+     * Returns a size of the queue. While producers or the consumer are working, the result is only an estimate.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long currentHead = head.getAcquire();
+        long currentTail = tail.getVolatile();
+        return (int) Math.max(0, Math.min(currentTail - currentHead, elements.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.getAcquire() >= tail.getVolatile();
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can store, which is always a power of two.
+     *
+     * @return the queue capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
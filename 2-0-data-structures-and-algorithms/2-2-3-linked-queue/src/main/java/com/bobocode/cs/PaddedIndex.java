@@ -0,0 +1,76 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * {@link PaddedIndex} is a {@code long} index of a concurrent queue, that occupies its own cache line. The JVM is free
+ * to reorder fields within a class, but it always lays out fields of a superclass before fields of a subclass, so the
+ * value is surrounded by padding declared in {@link PaddedIndexLeftPadding} and in this class. Without the padding,
+ * a producer that writes the tail index and a consumer that writes the head index would keep invalidating each other's
+ * cache line, even though they never touch the same variable.
+ * <p>
+ * Besides the shared value, the index has a {@link PaddedIndex#cached} field, that is used by the owning side of a
+ * queue to remember the last value of the opposite index and avoid reading it on every operation.
+ */
+final class PaddedIndex extends PaddedIndexValue {
+    private static final VarHandle VALUE;
+    private static final VarHandle CACHED;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(PaddedIndexValue.class, "value", long.class);
+            CACHED = MethodHandles.lookup().findVarHandle(PaddedIndexValue.class, "cached", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    long p11, p12, p13, p14, p15, p16, p17;
+
+    long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    long getAcquire() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    long getVolatile() {
+        return value;
+    }
+
+    /**
+     * Publishes a new value with release semantics, which is the same as {@link java.util.concurrent.atomic.AtomicLong#lazySet(long)}.
+     * All writes made before it are visible to a thread that reads the new value with acquire semantics, but unlike
+     * a volatile write it does not wait for the store buffer to drain.
+     */
+    void setRelease(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    boolean compareAndSet(long expectedValue, long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+
+    /**
+     * Reads the cached value atomically, but without any ordering guarantees. It is needed when the cached value is
+     * shared by several threads, since plain reads and writes of a {@code long} are allowed to tear.
+     */
+    long getCachedOpaque() {
+        return (long) CACHED.getOpaque(this);
+    }
+
+    void setCachedOpaque(long newValue) {
+        CACHED.setOpaque(this, newValue);
+    }
+}
+
+abstract class PaddedIndexLeftPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class PaddedIndexValue extends PaddedIndexLeftPadding {
+    volatile long value;
+    long cached;
+}
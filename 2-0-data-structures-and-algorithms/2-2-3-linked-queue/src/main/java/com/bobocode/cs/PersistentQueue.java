@@ -0,0 +1,168 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link PersistentQueue} implements FIFO {@link Queue} on top of immutable nodes, so that
+ * {@link PersistentQueue#snapshot()} takes O(1): a snapshot shares all nodes with the original queue, and further
+ * changes of one of them do not affect the other.
+ * <p>
+ * It is a real-time queue (C. Okasaki, "Purely Functional Data Structures"). Elements are polled from the front list
+ * and added to the rear list in reverse order. When the rear list becomes longer than the front one, the rear is
+ * reversed and appended to the front. The reversal is lazy: every node of the new front computes its next node only
+ * when it is requested. To keep every operation O(1) in the worst case, not just amortized, each
+ * {@link PersistentQueue#add(Object)} and {@link PersistentQueue#poll()} evaluates one more node of the front in
+ * advance, using the schedule pointer. By the time the next reversal starts, the whole front is evaluated.
+ * <p>
+ * Unlike a queue that reverses its rear list eagerly, this bound also holds when the same version of a queue is
+ * polled again and again through many snapshots, because an evaluated node is memoized and shared by all of them.
+ * <p>
+ * The state of the queue is an immutable object in a volatile field, so a snapshot can be taken from any thread
+ * without locking, while a single writer thread keeps changing the queue.
+ *
+ * @param <T> a generic parameter
+ */
+public class PersistentQueue<T> implements Queue<T> {
+    private static final State<?> EMPTY = new State<>(null, null, null, 0);
+
+    private volatile State<T> state;
+
+    /**
+     * An immutable version of the queue.
+     *
+     * @param front    a lazy list of the first elements in order
+     * @param rear     a strict list of the last elements in reverse order, it is never longer than the front
+     * @param schedule a suffix of the front which nodes are not evaluated yet, its length is front length - rear length
+     * @param size     a total number of elements
+     */
+    private record State<T>(LazyNode<T> front, Node<T> rear, LazyNode<T> schedule, int size) {
+    }
+
+    static final class Node<T> {
+        final T element;
+        final Node<T> next;
+
+        Node(T element, Node<T> next) {
+            this.element = element;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A node which next node is computed on the first request and memoized. Two threads may compute it at the same
+     * time, but they get equal nodes, so it does not matter which one is stored.
+     */
+    static final class LazyNode<T> {
+        final T element;
+        private volatile LazyNode<T> next;
+        private volatile Supplier<LazyNode<T>> suspension;
+
+        LazyNode(T element, LazyNode<T> next) {
+            this.element = element;
+            this.next = next;
+        }
+
+        LazyNode(T element, Supplier<LazyNode<T>> suspension) {
+            this.element = element;
+            this.suspension = suspension;
+        }
+
+        LazyNode<T> next() {
+            var pending = suspension;
+            if (pending != null) {
+                next = pending.get();
+                suspension = null;
+            }
+            return next;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public PersistentQueue() {
+        this.state = (State<T>) EMPTY;
+    }
+
+    private PersistentQueue(State<T> state) {
+        this.state = state;
+    }
+
+    /**
+     * Returns a queue that contains the same elements as this one. It shares all nodes with this queue, so it takes
+     * O(1) regardless of the queue size.
+     *
+     * @return an independent copy of this queue
+     */
+    public PersistentQueue<T> snapshot() {
+        return new PersistentQueue<>(state);
+    }
+
+    /**
+     * Retrieves queue head without removing it.
+     *
+     * @return an element at the head or null if queue is empty
+     */
+    public T peek() {
+        var front = state.front;
+        return front == null ? null : front.element;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Null elements are not supported, since {@link PersistentQueue#poll()}
+     * returns null when the queue is empty.
+     *
+     * @param element an element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        var current = state;
+        state = makeProgress(current.front, new Node<>(element, current.rear), current.schedule, current.size + 1);
+    }
+
+    @Override
+    public T poll() {
+        var current = state;
+        if (current.front == null) {
+            return null;
+        }
+        state = makeProgress(current.front.next(), current.rear, current.schedule, current.size - 1);
+        return current.front.element;
+    }
+
+    @Override
+    public int size() {
+        return state.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return state.size == 0;
+    }
+
+    /**
+     * Evaluates one node of the schedule. If the schedule is empty, the rear has just become one element longer
+     * than the front, so a new reversal is started.
+     */
+    private static <T> State<T> makeProgress(LazyNode<T> front, Node<T> rear, LazyNode<T> schedule, int size) {
+        if (schedule != null) {
+            return new State<>(front, rear, schedule.next(), size);
+        }
+        var newFront = rotate(front, rear, null);
+        return new State<>(newFront, null, newFront, size);
+    }
+
+    /**
+     * Lazily computes {@code front ++ reverse(rear) ++ accumulator}, where rear is exactly one element longer than
+     * front. Each step moves one element of the front and one element of the rear, so it does a constant amount of
+     * work.
+     */
+    private static <T> LazyNode<T> rotate(LazyNode<T> front, Node<T> rear, LazyNode<T> accumulator) {
+        if (front == null) {
+            return new LazyNode<>(rear.element, accumulator);
+        }
+        return new LazyNode<>(front.element,
+                () -> rotate(front.next(), rear.next, new LazyNode<>(rear.element, accumulator)));
+    }
+}
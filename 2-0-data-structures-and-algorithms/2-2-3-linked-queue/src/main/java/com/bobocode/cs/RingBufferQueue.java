@@ -0,0 +1,179 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.QueueInterruptedException;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link RingBufferQueue} is a bounded FIFO {@link Queue} that stores elements in a fixed-size array used as a ring.
+ * The capacity is rounded up to a power of two, so a position in the array is computed as {@code index & mask}
+ * instead of a division. The read and write indexes only grow (and eventually wrap around int range), so their
+ * difference is always the queue size. Unlike {@link LinkedQueue}, it does not allocate anything per added element,
+ * and it never grows beyond its capacity.
+ * <p>
+ * When the queue is full, {@link RingBufferQueue#add(Object)} follows the {@link OverflowPolicy} chosen on creation:
+ * it throws an exception, overwrites the oldest element or waits until a consumer polls an element. All operations
+ * are guarded by a single lock, so the queue can be shared between producer and consumer threads.
+ * <p>
+ * Null elements are not supported, since null is returned by {@link RingBufferQueue#poll()} when the queue is empty.
+ *
+ * @param <T> a generic parameter
+ */
+public class RingBufferQueue<T> implements Queue<T> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * Defines what happens when an element is added to a full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * {@link RingBufferQueue#add(Object)} throws {@link IllegalStateException}
+         */
+        REJECT,
+        /**
+         * The oldest element is dropped to make room for the new one
+         */
+        OVERWRITE_OLDEST,
+        /**
+         * {@link RingBufferQueue#add(Object)} waits until there is a free slot
+         */
+        BLOCK
+    }
+
+    private final Object[] elements;
+    private final int mask;
+    private final OverflowPolicy overflowPolicy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private int head;
+    private int tail;
+
+    /**
+     * Creates a queue that rejects elements when it is full.
+     *
+     * @param capacity the minimum number of elements the queue can store
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public RingBufferQueue(int capacity) {
+        this(capacity, OverflowPolicy.REJECT);
+    }
+
+    /**
+     * Creates a queue with a given overflow policy. The capacity is rounded up to the nearest power of two.
+     *
+     * @param capacity       the minimum number of elements the queue can store
+     * @param overflowPolicy defines what to do when the queue is full
+     * @throws IllegalArgumentException if the capacity is not positive or too big
+     */
+    public RingBufferQueue(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity should not be greater than " + MAXIMUM_CAPACITY);
+        }
+        int arrayLength = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[arrayLength];
+        this.mask = arrayLength - 1;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Adds an element to the end of the queue. If the queue is full, the result depends on the overflow policy.
+     *
+     * @param element the element to add
+     * @throws NullPointerException  if the element is null
+     * @throws IllegalStateException if the queue is full and the policy is {@link OverflowPolicy#REJECT}
+     * @throws QueueInterruptedException if the thread is interrupted while waiting with {@link OverflowPolicy#BLOCK}
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (isFull()) {
+                handleOverflow();
+            }
+            elements[tail++ & mask] = element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            if (head == tail) {
+                return null;
+            }
+            T element = removeHead();
+            notFull.signal();
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return tail - head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can store, which is always a power of two.
+     *
+     * @return the queue capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    private void handleOverflow() {
+        switch (overflowPolicy) {
+            case REJECT -> throw new IllegalStateException("Queue is full");
+            case OVERWRITE_OLDEST -> removeHead();
+            case BLOCK -> awaitNotFull();
+        }
+    }
+
+    private void awaitNotFull() {
+        try {
+            while (isFull()) {
+                notFull.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueueInterruptedException(e);
+        }
+    }
+
+    private boolean isFull() {
+        return tail - head == elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T removeHead() {
+        int index = head++ & mask;
+        T element = (T) elements[index];
+        elements[index] = null;
+        return element;
+    }
+}
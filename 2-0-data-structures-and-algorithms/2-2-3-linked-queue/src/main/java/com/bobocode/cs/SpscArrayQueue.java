@@ -0,0 +1,133 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+
+/**
+ * {@link SpscArrayQueue} is a bounded lock-free FIFO {@link Queue} for exactly one producer thread and exactly one
+ * consumer thread. Like {@link RingBufferQueue}, it stores elements in a power-of-two array indexed by masked
+ * ever-growing indexes, but it does not use any locks or CAS operations:
+ * <ul>
+ *     <li>only the producer writes the tail index, and only the consumer writes the head index;</li>
+ *     <li>an index is published with release semantics (lazySet), and the opposite side reads it with acquire
+ *     semantics, so an element written to the array before the tail is moved is visible to the consumer;</li>
+ *     <li>each side caches the last seen value of the opposite index, and reads the shared one only when the cached
+ *     value says that the queue is full (or empty);</li>
+ *     <li>both indexes are padded, so the producer and the consumer do not share a cache line.</li>
+ * </ul>
+ * Calling {@link SpscArrayQueue#add(Object)} or {@link SpscArrayQueue#offer(Object)} from more than one thread
+ * (or {@link SpscArrayQueue#poll()} from more than one thread) breaks the queue. Use {@link MpscArrayQueue} if there
+ * are several producers.
+ * <p>
+ * Null elements are not supported, since null is returned by {@link SpscArrayQueue#poll()} when the queue is empty.
+ *
+ * @param <T> a generic parameter
+ */
+public class SpscArrayQueue<T> implements Queue<T> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final Object[] elements;
+    private final int mask;
+    private final PaddedIndex head = new PaddedIndex();
+    private final PaddedIndex tail = new PaddedIndex();
+
+    /**
+     * Creates a queue with a given capacity, that is rounded up to the nearest power of two.
+     *
+     * @param capacity the minimum number of elements the queue can store
+     * @throws IllegalArgumentException if the capacity is not positive or too big
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity should not be greater than " + MAXIMUM_CAPACITY);
+        }
+        int arrayLength = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[arrayLength];
+        this.mask = arrayLength - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Must be called only by the producer thread.
+     *
+     * @param element the element to add
+     * @throws NullPointerException  if the element is null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is a free slot. Must be called only by the producer thread.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long currentTail = tail.getPlain();
+        if (currentTail - tail.cached >= elements.length) {
+            tail.cached = head.getAcquire();
+            if (currentTail - tail.cached >= elements.length) {
+                return false;
+            }
+        }
+        elements[(int) currentTail & mask] = element;
+        tail.setRelease(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head. Must be called only by the consumer thread.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long currentHead = head.getPlain();
+        if (currentHead >= head.cached) {
+            head.cached = tail.getAcquire();
+            if (currentHead >= head.cached) {
+                return null;
+            }
+        }
+        int index = (int) currentHead & mask;
+        T element = (T) elements[index];
+        elements[index] = null;
+        head.setRelease(currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Returns a size of the queue. While the producer or the consumer is working, the result is only an estimate.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long currentHead = head.getAcquire();
+        long currentTail = tail.getAcquire();
+        return (int) Math.max(0, Math.min(currentTail - currentHead, elements.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.getAcquire() >= tail.getAcquire();
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can store, which is always a power of two.
+     *
+     * @return the queue capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
@@ -0,0 +1,10 @@
+package com.bobocode.cs.exception;
+
+/**
+ * Thrown when a thread is interrupted while it waits for a free slot in a bounded queue.
+ */
+public class QueueInterruptedException extends RuntimeException {
+    public QueueInterruptedException(InterruptedException cause) {
+        super("Interrupted while waiting for a free slot", cause);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("LinkedQueue node recycling Test")
+class LinkedQueueRecyclingTest {
+    private static final int BATCH = 100;
+    private static final int ROUNDS = 10_000;
+
+    @Test
+    @DisplayName("constructor throws exception when pool capacity is negative")
+    void negativePoolCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LinkedQueue<Integer>(-1));
+    }
+
+    @Test
+    @DisplayName("recycling queue matches ArrayDeque for random operations")
+    void randomOperationsMatchArrayDeque() {
+        var queue = new LinkedQueue<Integer>(16);
+        var expected = new ArrayDeque<Integer>();
+        var random = new Random(17);
+
+        for (int i = 0; i < 100_000; i++) {
+            if (random.nextInt(100) < 52) {
+                queue.add(i);
+                expected.add(i);
+            } else {
+                assertThat(queue.poll()).isEqualTo(expected.poll());
+            }
+            assertThat(queue.size()).isEqualTo(expected.size());
+        }
+        while (!expected.isEmpty()) {
+            assertThat(queue.poll()).isEqualTo(expected.poll());
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("recycling queue does not allocate nodes in a steady state")
+    void steadyStateAllocation() {
+        long plainBytes = churnAllocatedBytes(new LinkedQueue<>());
+        long recyclingBytes = churnAllocatedBytes(new LinkedQueue<>(BATCH));
+
+        assertThat(recyclingBytes).isLessThan(plainBytes / 10);
+    }
+
+    private long churnAllocatedBytes(LinkedQueue<Integer> queue) {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        var allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        Integer element = 1;
+        churn(queue, element);
+
+        long threadId = Thread.currentThread().getId();
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        churn(queue, element);
+        long after = allocationBean.getThreadAllocatedBytes(threadId);
+        return after - before;
+    }
+
+    private void churn(LinkedQueue<Integer> queue, Integer element) {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < BATCH; i++) {
+                queue.add(element);
+            }
+            for (int i = 0; i < BATCH; i++) {
+                queue.poll();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("Lock-free queues Test")
+class LockFreeQueueTest {
+    private static final int ELEMENTS_PER_PRODUCER = 200_000;
+
+    @Nested
+    @DisplayName("SpscArrayQueue Test")
+    class SpscArrayQueueTest {
+
+        @Test
+        @DisplayName("offer and poll follow FIFO order and respect the capacity in a single thread")
+        void singleThreadOperations() {
+            var queue = new SpscArrayQueue<Integer>(3);
+
+            assertThat(queue.capacity()).isEqualTo(4);
+            for (int i = 0; i < 4; i++) {
+                assertThat(queue.offer(i)).isTrue();
+            }
+            assertThat(queue.offer(4)).isFalse();
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.add(4));
+            assertThat(queue.size()).isEqualTo(4);
+            for (int i = 0; i < 4; i++) {
+                assertThat(queue.poll()).isEqualTo(i);
+            }
+            assertThat(queue.poll()).isNull();
+            assertThat(queue.isEmpty()).isTrue();
+            assertThatNullPointerException().isThrownBy(() -> queue.offer(null));
+        }
+
+        @Test
+        @DisplayName("a consumer thread receives all elements from a producer thread in order")
+        void producerConsumer() throws Exception {
+            var queue = new SpscArrayQueue<Integer>(64);
+
+            var producer = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            int outOfOrder = 0;
+            for (int expected = 0; expected < ELEMENTS_PER_PRODUCER; ) {
+                var element = queue.poll();
+                if (element == null) {
+                    Thread.yield();
+                } else if (element != expected++) {
+                    outOfOrder++;
+                }
+            }
+
+            producer.get(30, TimeUnit.SECONDS);
+            assertThat(outOfOrder).isZero();
+            assertThat(queue.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("MpscArrayQueue Test")
+    class MpscArrayQueueTest {
+        private static final int PRODUCERS = 4;
+
+        @Test
+        @DisplayName("offer and poll follow FIFO order and respect the capacity in a single thread")
+        void singleThreadOperations() {
+            var queue = new MpscArrayQueue<Integer>(2);
+
+            assertThat(queue.offer(1)).isTrue();
+            assertThat(queue.offer(2)).isTrue();
+            assertThat(queue.offer(3)).isFalse();
+            assertThat(queue.poll()).isEqualTo(1);
+            queue.add(3);
+            assertThat(queue.size()).isEqualTo(2);
+            assertThat(queue.poll()).isEqualTo(2);
+            assertThat(queue.poll()).isEqualTo(3);
+            assertThat(queue.poll()).isNull();
+            assertThat(queue.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("a consumer thread receives all elements from several producers, and each producer's order is kept")
+        void producersConsumer() throws Exception {
+            var queue = new MpscArrayQueue<Long>(128);
+            var barrier = new CyclicBarrier(PRODUCERS);
+            var producers = new ArrayList<CompletableFuture<Void>>();
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                long producerId = producer;
+                producers.add(CompletableFuture.runAsync(() -> {
+                    await(barrier);
+                    for (long i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        while (!queue.offer(producerId << 32 | i)) {
+                            Thread.yield();
+                        }
+                    }
+                }, runnable -> new Thread(runnable).start()));
+            }
+
+            var nextExpected = new long[PRODUCERS];
+            int outOfOrder = 0;
+            for (long received = 0; received < (long) PRODUCERS * ELEMENTS_PER_PRODUCER; ) {
+                var element = queue.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+                int producerId = (int) (element >>> 32);
+                long sequence = element & 0xFFFF_FFFFL;
+                if (sequence != nextExpected[producerId]++) {
+                    outOfOrder++;
+                }
+                received++;
+            }
+
+            for (var producer : producers) {
+                producer.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(outOfOrder).isZero();
+            assertThat(nextExpected).containsOnly(ELEMENTS_PER_PRODUCER);
+            assertThat(queue.poll()).isNull();
+        }
+
+        private void await(CyclicBarrier barrier) {
+            try {
+                barrier.await();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
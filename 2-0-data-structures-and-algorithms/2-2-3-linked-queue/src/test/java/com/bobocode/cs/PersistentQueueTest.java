@@ -0,0 +1,115 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("PersistentQueue Test")
+class PersistentQueueTest {
+
+    private final PersistentQueue<Integer> queue = new PersistentQueue<>();
+
+    @Test
+    @DisplayName("poll returns elements in FIFO order")
+    void addAndPoll() {
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+        }
+
+        assertThat(queue.size()).isEqualTo(100);
+        assertThat(queue.peek()).isZero();
+        for (int i = 0; i < 100; i++) {
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.peek()).isNull();
+    }
+
+    @Test
+    @DisplayName("add throws exception when element is null")
+    void addNull() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("snapshot is not affected by further changes of the original queue")
+    void snapshotIsIndependent() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        var snapshot = queue.snapshot();
+        queue.poll();
+        queue.add(4);
+        snapshot.add(5);
+
+        assertThat(drain(queue)).containsExactly(2, 3, 4);
+        assertThat(drain(snapshot)).containsExactly(1, 2, 3, 5);
+    }
+
+    @Test
+    @DisplayName("the same version can be polled through many snapshots")
+    void pollSameVersionManyTimes() {
+        for (int i = 0; i < 1_000; i++) {
+            queue.add(i);
+        }
+        queue.poll();
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            var snapshot = queue.snapshot();
+            snapshot.add(-1);
+            var drained = drain(snapshot);
+            assertThat(drained).hasSize(1_000);
+            assertThat(drained.get(0)).isEqualTo(1);
+            assertThat(drained.get(998)).isEqualTo(999);
+            assertThat(drained.get(999)).isEqualTo(-1);
+        }
+        assertThat(queue.size()).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("random operations on random snapshots match ArrayDeque")
+    void randomOperationsMatchArrayDeque() {
+        var random = new Random(16);
+        var queues = new ArrayList<PersistentQueue<Integer>>();
+        var expectedQueues = new ArrayList<ArrayDeque<Integer>>();
+        queues.add(queue);
+        expectedQueues.add(new ArrayDeque<>());
+
+        for (int i = 0; i < 50_000; i++) {
+            int version = random.nextInt(queues.size());
+            var actual = queues.get(version);
+            var expected = expectedQueues.get(version);
+            int operation = random.nextInt(100);
+            if (operation < 55) {
+                actual.add(i);
+                expected.add(i);
+            } else if (operation < 98) {
+                assertThat(actual.poll()).isEqualTo(expected.poll());
+            } else if (queues.size() < 50) {
+                queues.add(actual.snapshot());
+                expectedQueues.add(new ArrayDeque<>(expected));
+            }
+            assertThat(actual.size()).isEqualTo(expected.size());
+        }
+        for (int version = 0; version < queues.size(); version++) {
+            assertThat(drain(queues.get(version))).containsExactlyElementsOf(expectedQueues.get(version));
+        }
+    }
+
+    private static <T> ArrayList<T> drain(PersistentQueue<T> queue) {
+        var elements = new ArrayList<T>();
+        while (!queue.isEmpty()) {
+            elements.add(queue.poll());
+        }
+        return elements;
+    }
+}
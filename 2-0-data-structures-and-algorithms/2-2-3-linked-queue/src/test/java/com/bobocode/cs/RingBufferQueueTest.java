@@ -0,0 +1,112 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.RingBufferQueue.OverflowPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("RingBufferQueue Test")
+class RingBufferQueueTest {
+
+    @Test
+    @DisplayName("capacity is rounded up to a power of two")
+    void capacity() {
+        assertThat(new RingBufferQueue<Integer>(1).capacity()).isEqualTo(1);
+        assertThat(new RingBufferQueue<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new RingBufferQueue<Integer>(16).capacity()).isEqualTo(16);
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new RingBufferQueue<>(0));
+    }
+
+    @Test
+    @DisplayName("add and poll follow FIFO order when indexes wrap around the array")
+    void fifoOrder() {
+        var queue = new RingBufferQueue<Integer>(4);
+
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+            queue.add(i + 1_000);
+            assertThat(queue.size()).isEqualTo(2);
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(i + 1_000);
+        }
+
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    @DisplayName("REJECT policy throws exception when the queue is full")
+    void rejectPolicy() {
+        var queue = new RingBufferQueue<Integer>(2, OverflowPolicy.REJECT);
+        queue.add(1);
+        queue.add(2);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.add(3));
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("OVERWRITE_OLDEST policy drops the oldest elements when the queue is full")
+    void overwriteOldestPolicy() {
+        var queue = new RingBufferQueue<Integer>(4, OverflowPolicy.OVERWRITE_OLDEST);
+
+        for (int i = 0; i < 10; i++) {
+            queue.add(i);
+        }
+
+        assertThat(queue.size()).isEqualTo(4);
+        var polled = new ArrayList<Integer>();
+        while (!queue.isEmpty()) {
+            polled.add(queue.poll());
+        }
+        assertThat(polled).containsExactly(6, 7, 8, 9);
+    }
+
+    @Test
+    @DisplayName("BLOCK policy waits until a consumer polls an element")
+    void blockPolicy() throws Exception {
+        var queue = new RingBufferQueue<Integer>(2, OverflowPolicy.BLOCK);
+        queue.add(1);
+        queue.add(2);
+
+        var producer = CompletableFuture.runAsync(() -> queue.add(3));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(producer).isNotDone();
+
+        assertThat(queue.poll()).isEqualTo(1);
+        producer.get(5, TimeUnit.SECONDS);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("BLOCK policy delivers every element from a fast producer to a slow consumer in order")
+    void blockPolicyProducerConsumer() throws Exception {
+        var queue = new RingBufferQueue<Integer>(8, OverflowPolicy.BLOCK);
+        int count = 100_000;
+
+        var producer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < count; i++) {
+                queue.add(i);
+            }
+        });
+        for (int expected = 0; expected < count; ) {
+            var element = queue.poll();
+            if (element != null) {
+                assertThat(element).isEqualTo(expected++);
+                assertThat(queue.size()).isLessThanOrEqualTo(queue.capacity());
+            }
+        }
+        producer.get(5, TimeUnit.SECONDS);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
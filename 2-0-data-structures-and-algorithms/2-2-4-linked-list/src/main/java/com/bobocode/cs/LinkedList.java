@@ -1,11 +1,22 @@
 package com.bobocode.cs;
 
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
  * inner static class {@link Node<T>}.
+ * <p>
+ * The list is {@link Iterable}. Its iterator and spliterator are fail-fast: they throw
+ * {@link ConcurrentModificationException} if the list is structurally modified (an element is added or removed)
+ * after they were created. The spliterator reports the exact size and splits the list by copying a half of the
+ * remaining elements into an array, so {@link List#parallelStream()} does not need to walk the nodes more than once.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -15,6 +26,19 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * @author Serhii Hryhus
  */
 public class LinkedList<T> implements List<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    static class Node<T> {
+        T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
 
     /**
      * This method creates a list of provided elements
@@ -24,7 +48,11 @@ public class LinkedList<T> implements List<T> {
      * @return a new list of elements the were passed as method parameters
      */
     public static <T> LinkedList<T> of(T... elements) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        var list = new LinkedList<T>();
+        for (var element : elements) {
+            list.add(element);
+        }
+        return list;
     }
 
     /**
@@ -34,7 +62,15 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        var newNode = new Node<>(element);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
+        modCount++;
     }
 
     /**
@@ -46,7 +82,22 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        var newNode = new Node<>(element);
+        if (index == 0) {
+            newNode.next = head;
+            head = newNode;
+        } else {
+            var previous = findNode(index - 1);
+            newNode.next = previous.next;
+            previous.next = newNode;
+        }
+        size++;
+        modCount++;
     }
 
     /**
@@ -58,7 +109,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void set(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        findNode(index).element = element;
     }
 
     /**
@@ -70,7 +122,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T get(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        return findNode(index).element;
     }
 
     /**
@@ -81,7 +134,10 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T getFirst() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return head.element;
     }
 
     /**
@@ -92,7 +148,10 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T getLast() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
     }
 
     /**
@@ -104,7 +163,25 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T remove(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        Node<T> removedNode;
+        if (index == 0) {
+            removedNode = head;
+            head = removedNode.next;
+            if (head == null) {
+                tail = null;
+            }
+        } else {
+            var previous = findNode(index - 1);
+            removedNode = previous.next;
+            previous.next = removedNode.next;
+            if (removedNode == tail) {
+                tail = previous;
+            }
+        }
+        size--;
+        modCount++;
+        return removedNode.element;
     }
 
 
@@ -115,7 +192,12 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        for (var current = head; current != null; current = current.next) {
+            if (Objects.equals(current.element, element)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -125,7 +207,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size == 0;
     }
 
     /**
@@ -135,7 +217,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size;
     }
 
     /**
@@ -143,6 +225,132 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void clear() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator, that reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED} characteristics.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator();
+    }
+
+    private Node<T> findNode(int index) {
+        var current = head;
+        for (int i = 0; i < index; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    private class LinkedListIterator implements Iterator<T> {
+        private Node<T> current = head;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            T element = current.element;
+            current = current.next;
+            return element;
+        }
+    }
+
+    /**
+     * A spliterator binds the head and the size when it's created. A structural modification may unlink the nodes it
+     * is going to visit, so the modification count is checked before every node is dereferenced.
+     */
+    private class LinkedListSpliterator implements Spliterator<T> {
+        private Node<T> current = head;
+        private int remaining = size;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (remaining == 0) {
+                return false;
+            }
+            checkForComodification();
+            T element = current.element;
+            current = current.next;
+            remaining--;
+            action.accept(element);
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            for (; remaining > 0; remaining--) {
+                checkForComodification();
+                action.accept(current.element);
+                current = current.next;
+            }
+            checkForComodification();
+        }
+
+        /**
+         * Copies the first half of the remaining elements into an array, and returns an array-based spliterator over
+         * them. Arrays split in constant time, so the whole list is walked only once no matter how deep it is split.
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            int batchSize = remaining / 2;
+            if (batchSize == 0) {
+                return null;
+            }
+            checkForComodification();
+            var batch = new Object[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                batch[i] = current.element;
+                current = current.next;
+            }
+            remaining -= batchSize;
+            return Spliterators.spliterator(batch, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 }
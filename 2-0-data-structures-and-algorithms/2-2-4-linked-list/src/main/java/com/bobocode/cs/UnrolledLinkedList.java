@@ -0,0 +1,457 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where every node stores
+ * a small array of elements instead of a single one. It allocates one node per {@code nodeCapacity} elements, so
+ * the memory overhead of node headers and references is several times lower than in {@link LinkedList}, and a scan
+ * reads neighbouring elements from the same array instead of jumping to a new node on every step.
+ * <p>
+ * An index lookup skips whole nodes using their element counts, and it starts from the head or from the tail,
+ * whichever is nearer. Adding to both ends is done in amortized constant time: a new node is created only when
+ * the first (or the last) node is full. Inserting in the middle of a full node splits it in halves, and a node that
+ * becomes less than half full after removal is merged with the next one, if they fit into a single node.
+ * <p>
+ * The iterator and the spliterator are fail-fast. The spliterator splits the list without copying: a prefix
+ * spliterator gets the current position, and the remaining one skips half of the elements node by node.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 16;
+
+    private final int nodeCapacity;
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates a list, which nodes store up to a given number of elements.
+     *
+     * @param nodeCapacity the number of elements per node
+     * @throws IllegalArgumentException if the capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity should be at least 2");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        var list = new UnrolledLinkedList<T>();
+        for (var element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    static class Node<T> {
+        final Object[] elements;
+        int count;
+        Node<T> prev;
+        Node<T> next;
+
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    private record Position<T>(Node<T> node, int offset) {
+    }
+
+    /**
+     * Adds an element to the end of the list. A new node is created only when the last one is full.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkLast(new Node<>(nodeCapacity));
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        if (index == 0 && head.count == nodeCapacity) {
+            linkFirst(new Node<>(nodeCapacity));
+            head.elements[head.count++] = element;
+            size++;
+            modCount++;
+            return;
+        }
+        var position = findPosition(index);
+        var node = position.node();
+        int offset = position.offset();
+        if (node.count == nodeCapacity) {
+            var newNode = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        var position = findPosition(index);
+        position.node().elements[position.offset()] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        var position = findPosition(index);
+        return elementAt(position.node(), position.offset());
+    }
+
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(head, 0);
+    }
+
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(tail, tail.count - 1);
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        var position = findPosition(index);
+        var node = position.node();
+        int offset = position.offset();
+        T removedElement = elementAt(node, offset);
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity / 2 && node.next != null && node.count + node.next.count <= nodeCapacity) {
+            mergeWithNext(node);
+        }
+        return removedElement;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (var node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.elements[i], element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator, that reads the elements of a node one by one before moving to the next node.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator, that reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED} characteristics.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new UnrolledSpliterator(head, 0, size, modCount);
+    }
+
+    private Position<T> findPosition(int index) {
+        if (index < size / 2) {
+            var node = head;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+            return new Position<>(node, index);
+        }
+        int indexFromEnd = size - 1 - index;
+        var node = tail;
+        while (indexFromEnd >= node.count) {
+            indexFromEnd -= node.count;
+            node = node.prev;
+        }
+        return new Position<>(node, node.count - 1 - indexFromEnd);
+    }
+
+    /**
+     * Moves the second half of a full node to a new node, that is linked right after it.
+     *
+     * @return the new node
+     */
+    private Node<T> split(Node<T> node) {
+        var newNode = new Node<T>(nodeCapacity);
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, moved);
+        Arrays.fill(node.elements, half, node.count, null);
+        node.count = half;
+        newNode.count = moved;
+        linkAfter(node, newNode);
+        return newNode;
+    }
+
+    private void mergeWithNext(Node<T> node) {
+        var next = node.next;
+        System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    private void linkFirst(Node<T> node) {
+        node.next = head;
+        if (head == null) {
+            tail = node;
+        } else {
+            head.prev = node;
+        }
+        head = node;
+    }
+
+    private void linkLast(Node<T> node) {
+        node.prev = tail;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+    }
+
+    private void linkAfter(Node<T> node, Node<T> newNode) {
+        newNode.prev = node;
+        newNode.next = node.next;
+        if (node.next == null) {
+            tail = newNode;
+        } else {
+            node.next.prev = newNode;
+        }
+        node.next = newNode;
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(Node<T> node, int offset) {
+        return (T) node.elements[offset];
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private class UnrolledIterator implements Iterator<T> {
+        private Node<T> node = head;
+        private int offset;
+        private int remaining = size;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification(expectedModCount);
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            remaining--;
+            return elementAt(node, offset++);
+        }
+    }
+
+    private class UnrolledSpliterator implements Spliterator<T> {
+        private Node<T> node;
+        private int offset;
+        private int remaining;
+        private final int expectedModCount;
+
+        UnrolledSpliterator(Node<T> node, int offset, int remaining, int expectedModCount) {
+            this.node = node;
+            this.offset = offset;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (remaining == 0) {
+                return false;
+            }
+            checkForComodification(expectedModCount);
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            remaining--;
+            action.accept(elementAt(node, offset++));
+            checkForComodification(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            while (remaining > 0) {
+                // a modification may unlink the next nodes, so it's checked before the next node is dereferenced
+                checkForComodification(expectedModCount);
+                if (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                int end = Math.min(node.count, offset + remaining);
+                for (int i = offset; i < end; i++) {
+                    action.accept(elementAt(node, i));
+                }
+                remaining -= end - offset;
+                offset = end;
+            }
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int half = remaining / 2;
+            if (half == 0) {
+                return null;
+            }
+            checkForComodification(expectedModCount);
+            var prefix = new UnrolledSpliterator(node, offset, half, expectedModCount);
+            remaining -= half;
+            while (offset + half >= node.count) {
+                half -= node.count - offset;
+                node = node.next;
+                offset = 0;
+            }
+            offset += half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("UnrolledLinkedList Test")
+class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+
+    @Test
+    @DisplayName("add appends elements and get finds them by index")
+    void addAndGet() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        assertThat(list.getFirst()).isEqualTo(0);
+        assertThat(list.getLast()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("sequential adds fill every node completely")
+    void addFillsNodes() {
+        for (int i = 0; i < 40; i++) {
+            list.add(i);
+        }
+
+        assertThat(countNodes()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("add by index zero prepends elements")
+    void addToTheHead() {
+        for (int i = 0; i < 10; i++) {
+            list.add(0, i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i)).isEqualTo(9 - i);
+        }
+        assertThat(countNodes()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("add by index splits a full node")
+    void addToTheMiddleOfFullNode() {
+        list = UnrolledLinkedList.of(1, 2, 4, 5);
+
+        list.add(2, 3);
+
+        assertThat(list.size()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(list.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("set changes an element by index")
+    void set() {
+        list = UnrolledLinkedList.of(1, 2, 3);
+
+        list.set(1, 20);
+
+        assertThat(list.get(1)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("remove deletes an element and unlinks empty nodes")
+    void remove() {
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(list.remove(0)).isEqualTo(i);
+        }
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(countNodes()).isZero();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getFirst());
+    }
+
+    @Test
+    @DisplayName("index checks throw exceptions")
+    void indexOutOfBounds() {
+        list.add(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(2, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(-1));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new UnrolledLinkedList<>(1));
+    }
+
+    @Test
+    @DisplayName("contains and clear work for elements in any node")
+    void containsAndClear() {
+        list = UnrolledLinkedList.of(1, 2, 3, 4, 5, 6, null);
+
+        assertThat(list.contains(6)).isTrue();
+        assertThat(list.contains(null)).isTrue();
+        assertThat(list.contains(7)).isFalse();
+
+        list.clear();
+
+        assertThat(list.size()).isZero();
+        assertThat(list.contains(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a random sequence of operations gives the same result as java.util.ArrayList")
+    void randomOperationsMatchArrayList() {
+        var expected = new ArrayList<Integer>();
+        var random = new Random(11);
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(5);
+            if (operation <= 1 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                list.set(index, -i);
+                expected.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(list.get(index)).isEqualTo(expected.get(index));
+            }
+        }
+
+        assertThat(list.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @SneakyThrows
+    private int countNodes() {
+        var headField = UnrolledLinkedList.class.getDeclaredField("head");
+        headField.setAccessible(true);
+        var nextField = Class.forName("com.bobocode.cs.UnrolledLinkedList$Node").getDeclaredField("next");
+        nextField.setAccessible(true);
+        int count = 0;
+        for (var node = headField.get(list); node != null; node = nextField.get(node)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -1,10 +1,25 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
  * based on an array and is simplified version of {@link java.util.ArrayList}.
+ * <p>
+ * When the array is full, it grows by half of its current length, so a sequence of n single-element adds makes
+ * O(log n) copies. Bulk operations {@link ArrayList#addAll(Object[])}, {@link ArrayList#insertAll(int, Object[])} and
+ * {@link ArrayList#removeRange(int, int)} grow the array at most once and move the tail using a single
+ * {@link System#arraycopy(Object, int, Object, int, int)} call. {@link ArrayList#ensureCapacity(int)} and
+ * {@link ArrayList#trimToSize()} allow callers to presize the array and to release unused memory.
+ * <p>
+ * The iterator and the spliterator are fail-fast: they throw {@link ConcurrentModificationException} if an element
+ * is added or removed after they were created. The spliterator splits an index range in halves in constant time.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -12,6 +27,11 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * @author Serhii Hryhus
  */
 public class ArrayList<T> implements List<T> {
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private Object[] elements;
+    private int size;
+    private int modCount;
 
     /**
      * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
@@ -20,7 +40,10 @@ public class ArrayList<T> implements List<T> {
      * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
      */
     public ArrayList(int initCapacity) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        elements = new Object[initCapacity];
     }
 
     /**
@@ -28,7 +51,7 @@ public class ArrayList<T> implements List<T> {
      * A default size of inner array is 5;
      */
     public ArrayList() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -38,7 +61,9 @@ public class ArrayList<T> implements List<T> {
      * @return new instance
      */
     public static <T> List<T> of(T... elements) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        var list = new ArrayList<T>(Math.max(elements.length, 1));
+        list.addAll(elements);
+        return list;
     }
 
     /**
@@ -48,7 +73,9 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        growIfNeeded(size + 1);
+        elements[size++] = element;
+        modCount++;
     }
 
     /**
@@ -59,7 +86,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size + 1);
+        growIfNeeded(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
     }
 
     /**
@@ -71,7 +103,8 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T get(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        return elementAt(index);
     }
 
     /**
@@ -82,7 +115,10 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T getFirst() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(0);
     }
 
     /**
@@ -93,7 +129,10 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T getLast() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(size - 1);
     }
 
     /**
@@ -105,7 +144,8 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void set(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        elements[index] = element;
     }
 
     /**
@@ -117,7 +157,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T remove(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        T removedElement = elementAt(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return removedElement;
     }
 
     /**
@@ -128,7 +173,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -138,7 +188,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size == 0;
     }
 
     /**
@@ -146,7 +196,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size;
     }
 
     /**
@@ -154,6 +204,183 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void clear() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Arrays.fill(elements, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Adds all given elements to the end of the list. The array grows at most once, and the elements are copied using
+     * a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param newElements elements to add
+     */
+    public void addAll(T[] newElements) {
+        insertAll(size, newElements);
+    }
+
+    /**
+     * Inserts all given elements starting from a specific position. The tail of the list is shifted to the right
+     * only once, no matter how many elements are inserted.
+     *
+     * @param index       position of the first inserted element
+     * @param newElements elements to insert
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the list size
+     */
+    public void insertAll(int index, T[] newElements) {
+        Objects.checkIndex(index, size + 1);
+        int count = newElements.length;
+        growIfNeeded(size + count);
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(newElements, 0, elements, index, count);
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements which index is between fromIndex, inclusive, and toIndex, exclusive. The tail of the list
+     * is shifted to the left only once.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     * @throws IndexOutOfBoundsException if the range is out of the list bounds
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator, that reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED} characteristics.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Grows the underlying array, so it can store at least a given number of elements without any further resize.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the underlying array to the list size, so the list does not hold any unused memory.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void growIfNeeded(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private class ArrayListIterator implements Iterator<T> {
+        private int cursor;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification(expectedModCount);
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return elementAt(cursor++);
+        }
+    }
+
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        ArrayListSpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(elementAt(index++));
+            checkForComodification(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            for (; index < fence; index++) {
+                action.accept(elementAt(index));
+            }
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            var prefix = new ArrayListSpliterator(index, mid, expectedModCount);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
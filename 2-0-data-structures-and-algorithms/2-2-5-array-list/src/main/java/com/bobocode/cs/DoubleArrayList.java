@@ -0,0 +1,249 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link DoubleArrayList} is a {@link List} of {@code double} values, that stores them in a plain {@code double[]} array instead
+ * of an array of references to {@link Double} objects. It saves the memory occupied by object headers and references,
+ * and makes a scan (e.g. {@link DoubleArrayList#contains(double)}) a sequential read of a contiguous memory block.
+ * <p>
+ * Besides the methods of {@link List} interface that accept and return {@link Double}, it provides their unboxed
+ * versions: {@link DoubleArrayList#add(double)}, {@link DoubleArrayList#add(int, double)}, {@link DoubleArrayList#getDouble(int)},
+ * {@link DoubleArrayList#set(int, double)}, {@link DoubleArrayList#removeDouble(int)} and {@link DoubleArrayList#contains(double)}. Null elements are
+ * not supported. The array grows the same way as in {@link ArrayList}.
+ * <p>
+ * The iterator and the spliterator are fail-fast, and they are primitive specializations
+ * ({@link PrimitiveIterator.OfDouble} and {@link Spliterator.OfDouble}), so {@link DoubleArrayList#doubleStream()} does not
+ * box the elements.
+ */
+public class DoubleArrayList extends PrimitiveArrayList<Double, double[]> {
+
+    /**
+     * Creates a list with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public DoubleArrayList(int initCapacity) {
+        super(new double[checkCapacity(initCapacity)]);
+    }
+
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates and returns a list with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static DoubleArrayList of(double... elements) {
+        var list = new DoubleArrayList(Math.max(elements.length, 1));
+        System.arraycopy(elements, 0, list.elements, 0, elements.length);
+        list.size = elements.length;
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list without boxing.
+     *
+     * @param element element to add
+     */
+    public void add(double element) {
+        int index = append();
+        elements[index] = element;
+    }
+
+    @Override
+    public void add(Double element) {
+        add(element.doubleValue());
+    }
+
+    /**
+     * Adds an element to the specific position without boxing.
+     *
+     * @param index   index of position
+     * @param element element to add
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the list size
+     */
+    public void add(int index, double element) {
+        insertAt(index);
+        elements[index] = element;
+    }
+
+    @Override
+    public void add(int index, Double element) {
+        add(index, element.doubleValue());
+    }
+
+    /**
+     * Changes the value at specific position without boxing.
+     *
+     * @param index   position of value
+     * @param element a new value
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public void set(int index, double element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    @Override
+    public void set(int index, Double element) {
+        set(index, element.doubleValue());
+    }
+
+    /**
+     * Retrieves an element by its position index without boxing.
+     *
+     * @param index index of element
+     * @return an element
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    /**
+     * Removes an element by its position index without boxing.
+     *
+     * @param index element index
+     * @return deleted element
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public double removeDouble(int index) {
+        Objects.checkIndex(index, size);
+        double removedElement = elements[index];
+        removeAt(index);
+        return removedElement;
+    }
+
+    @Override
+    public Double remove(int index) {
+        return removeDouble(index);
+    }
+
+    /**
+     * Checks if the list contains a given value. It's a sequential scan over a primitive array.
+     *
+     * @param element value to find
+     * @return true if the value exists, false otherwise
+     */
+    public boolean contains(double element) {
+        double[] elements = this.elements;
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(elements[i]) == Double.doubleToLongBits(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Double element) {
+        return element != null && contains(element.doubleValue());
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} over the list elements, that reads the underlying array directly.
+     *
+     * @return a stream of list elements
+     */
+    public DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a fail-fast iterator, that provides unboxed elements via {@link PrimitiveIterator.OfDouble#nextDouble()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new DoubleArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator, that reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED} characteristics.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new DoubleArrayListSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Returns a copy of the list elements as a primitive array.
+     *
+     * @return an array that contains all list elements
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    double[] copyOf(int newLength) {
+        return Arrays.copyOf(elements, newLength);
+    }
+
+    private class DoubleArrayListIterator extends Cursor implements PrimitiveIterator.OfDouble {
+        @Override
+        public double nextDouble() {
+            return elements[nextIndex()];
+        }
+    }
+
+    private class DoubleArrayListSpliterator extends Range implements Spliterator.OfDouble {
+
+        DoubleArrayListSpliterator(int index, int fence, int expectedModCount) {
+            super(index, fence, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(elements[index++]);
+            checkForComodification(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            double[] elements = DoubleArrayList.this.elements;
+            for (; index < fence; index++) {
+                action.accept(elements[index]);
+            }
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int start = split();
+            return start < 0 ? null : new DoubleArrayListSpliterator(start, index, expectedModCount);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link IntArrayList} is a {@link List} of {@code int} values, that stores them in a plain {@code int[]} array instead
+ * of an array of references to {@link Integer} objects. It saves the memory occupied by object headers and references,
+ * and makes a scan (e.g. {@link IntArrayList#contains(int)}) a sequential read of a contiguous memory block.
+ * <p>
+ * Besides the methods of {@link List} interface that accept and return {@link Integer}, it provides their unboxed
+ * versions: {@link IntArrayList#add(int)}, {@link IntArrayList#add(int, int)}, {@link IntArrayList#getInt(int)},
+ * {@link IntArrayList#set(int, int)}, {@link IntArrayList#removeInt(int)} and {@link IntArrayList#contains(int)}. Null elements are
+ * not supported. The array grows the same way as in {@link ArrayList}.
+ * <p>
+ * The iterator and the spliterator are fail-fast, and they are primitive specializations
+ * ({@link PrimitiveIterator.OfInt} and {@link Spliterator.OfInt}), so {@link IntArrayList#intStream()} does not
+ * box the elements.
+ */
+public class IntArrayList extends PrimitiveArrayList<Integer, int[]> {
+
+    /**
+     * Creates a list with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public IntArrayList(int initCapacity) {
+        super(new int[checkCapacity(initCapacity)]);
+    }
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates and returns a list with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static IntArrayList of(int... elements) {
+        var list = new IntArrayList(Math.max(elements.length, 1));
+        System.arraycopy(elements, 0, list.elements, 0, elements.length);
+        list.size = elements.length;
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list without boxing.
+     *
+     * @param element element to add
+     */
+    public void add(int element) {
+        int index = append();
+        elements[index] = element;
+    }
+
+    @Override
+    public void add(Integer element) {
+        add(element.intValue());
+    }
+
+    /**
+     * Adds an element to the specific position without boxing.
+     *
+     * @param index   index of position
+     * @param element element to add
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the list size
+     */
+    public void add(int index, int element) {
+        insertAt(index);
+        elements[index] = element;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        add(index, element.intValue());
+    }
+
+    /**
+     * Changes the value at specific position without boxing.
+     *
+     * @param index   position of value
+     * @param element a new value
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public void set(int index, int element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    @Override
+    public void set(int index, Integer element) {
+        set(index, element.intValue());
+    }
+
+    /**
+     * Retrieves an element by its position index without boxing.
+     *
+     * @param index index of element
+     * @return an element
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Removes an element by its position index without boxing.
+     *
+     * @param index element index
+     * @return deleted element
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public int removeInt(int index) {
+        Objects.checkIndex(index, size);
+        int removedElement = elements[index];
+        removeAt(index);
+        return removedElement;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeInt(index);
+    }
+
+    /**
+     * Checks if the list contains a given value. It's a sequential scan over a primitive array.
+     *
+     * @param element value to find
+     * @return true if the value exists, false otherwise
+     */
+    public boolean contains(int element) {
+        int[] elements = this.elements;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Integer element) {
+        return element != null && contains(element.intValue());
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over the list elements, that reads the underlying array directly.
+     *
+     * @return a stream of list elements
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a fail-fast iterator, that provides unboxed elements via {@link PrimitiveIterator.OfInt#nextInt()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator, that reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED} characteristics.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntArrayListSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Returns a copy of the list elements as a primitive array.
+     *
+     * @return an array that contains all list elements
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    int[] copyOf(int newLength) {
+        return Arrays.copyOf(elements, newLength);
+    }
+
+    private class IntArrayListIterator extends Cursor implements PrimitiveIterator.OfInt {
+        @Override
+        public int nextInt() {
+            return elements[nextIndex()];
+        }
+    }
+
+    private class IntArrayListSpliterator extends Range implements Spliterator.OfInt {
+
+        IntArrayListSpliterator(int index, int fence, int expectedModCount) {
+            super(index, fence, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(elements[index++]);
+            checkForComodification(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int[] elements = IntArrayList.this.elements;
+            for (; index < fence; index++) {
+                action.accept(elements[index]);
+            }
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int start = split();
+            return start < 0 ? null : new IntArrayListSpliterator(start, index, expectedModCount);
+        }
+    }
+}
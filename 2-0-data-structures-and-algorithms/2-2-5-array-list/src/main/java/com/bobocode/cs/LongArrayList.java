@@ -0,0 +1,249 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link LongArrayList} is a {@link List} of {@code long} values, that stores them in a plain {@code long[]} array instead
+ * of an array of references to {@link Long} objects. It saves the memory occupied by object headers and references,
+ * and makes a scan (e.g. {@link LongArrayList#contains(long)}) a sequential read of a contiguous memory block.
+ * <p>
+ * Besides the methods of {@link List} interface that accept and return {@link Long}, it provides their unboxed
+ * versions: {@link LongArrayList#add(long)}, {@link LongArrayList#add(int, long)}, {@link LongArrayList#getLong(int)},
+ * {@link LongArrayList#set(int, long)}, {@link LongArrayList#removeLong(int)} and {@link LongArrayList#contains(long)}. Null elements are
+ * not supported. The array grows the same way as in {@link ArrayList}.
+ * <p>
+ * The iterator and the spliterator are fail-fast, and they are primitive specializations
+ * ({@link PrimitiveIterator.OfLong} and {@link Spliterator.OfLong}), so {@link LongArrayList#longStream()} does not
+ * box the elements.
+ */
+public class LongArrayList extends PrimitiveArrayList<Long, long[]> {
+
+    /**
+     * Creates a list with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public LongArrayList(int initCapacity) {
+        super(new long[checkCapacity(initCapacity)]);
+    }
+
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates and returns a list with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static LongArrayList of(long... elements) {
+        var list = new LongArrayList(Math.max(elements.length, 1));
+        System.arraycopy(elements, 0, list.elements, 0, elements.length);
+        list.size = elements.length;
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list without boxing.
+     *
+     * @param element element to add
+     */
+    public void add(long element) {
+        int index = append();
+        elements[index] = element;
+    }
+
+    @Override
+    public void add(Long element) {
+        add(element.longValue());
+    }
+
+    /**
+     * Adds an element to the specific position without boxing.
+     *
+     * @param index   index of position
+     * @param element element to add
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the list size
+     */
+    public void add(int index, long element) {
+        insertAt(index);
+        elements[index] = element;
+    }
+
+    @Override
+    public void add(int index, Long element) {
+        add(index, element.longValue());
+    }
+
+    /**
+     * Changes the value at specific position without boxing.
+     *
+     * @param index   position of value
+     * @param element a new value
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public void set(int index, long element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    @Override
+    public void set(int index, Long element) {
+        set(index, element.longValue());
+    }
+
+    /**
+     * Retrieves an element by its position index without boxing.
+     *
+     * @param index index of element
+     * @return an element
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Removes an element by its position index without boxing.
+     *
+     * @param index element index
+     * @return deleted element
+     * @throws IndexOutOfBoundsException if the index is out of the list bounds
+     */
+    public long removeLong(int index) {
+        Objects.checkIndex(index, size);
+        long removedElement = elements[index];
+        removeAt(index);
+        return removedElement;
+    }
+
+    @Override
+    public Long remove(int index) {
+        return removeLong(index);
+    }
+
+    /**
+     * Checks if the list contains a given value. It's a sequential scan over a primitive array.
+     *
+     * @param element value to find
+     * @return true if the value exists, false otherwise
+     */
+    public boolean contains(long element) {
+        long[] elements = this.elements;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Long element) {
+        return element != null && contains(element.longValue());
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over the list elements, that reads the underlying array directly.
+     *
+     * @return a stream of list elements
+     */
+    public LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a fail-fast iterator, that provides unboxed elements via {@link PrimitiveIterator.OfLong#nextLong()}.
+     *
+     * @return an iterator
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator, that reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED} characteristics.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new LongArrayListSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Returns a copy of the list elements as a primitive array.
+     *
+     * @return an array that contains all list elements
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    long[] copyOf(int newLength) {
+        return Arrays.copyOf(elements, newLength);
+    }
+
+    private class LongArrayListIterator extends Cursor implements PrimitiveIterator.OfLong {
+        @Override
+        public long nextLong() {
+            return elements[nextIndex()];
+        }
+    }
+
+    private class LongArrayListSpliterator extends Range implements Spliterator.OfLong {
+
+        LongArrayListSpliterator(int index, int fence, int expectedModCount) {
+            super(index, fence, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(elements[index++]);
+            checkForComodification(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            long[] elements = LongArrayList.this.elements;
+            for (; index < fence; index++) {
+                action.accept(elements[index]);
+            }
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int start = split();
+            return start < 0 ? null : new LongArrayListSpliterator(start, index, expectedModCount);
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link PersistentList} is an implementation of {@link List} interface based on an immutable 32-way trie, like
+ * vectors in Clojure and Scala. Elements are stored in leaf arrays of 32 elements, and every internal node is an
+ * array of up to 32 children, so a tree of n elements has {@code log32(n)} levels: at most 4 levels for a million
+ * elements, and at most 7 for {@link Integer#MAX_VALUE}. The last leaf (the tail) is stored separately, so
+ * {@link PersistentList#add(Object)} usually copies only the tail, and
+ * {@link PersistentList#get(int)} of the last elements does not go down the tree.
+ * <p>
+ * Arrays are never modified after they are created. A change copies only the arrays on the path from the root to
+ * the changed leaf, and shares all other arrays with the previous version. So {@link PersistentList#get(int)},
+ * {@link PersistentList#set(int, Object)}, {@link PersistentList#add(Object)} and removal of the last element take
+ * O(log32 n), which is effectively constant. {@link PersistentList#add(int, Object)} and
+ * {@link PersistentList#remove(int)} in the middle of the list shift all the following elements, so they rebuild the
+ * trie in O(n), like {@link ArrayList} does.
+ * <p>
+ * {@link PersistentList#snapshot()} takes O(1): a snapshot shares the whole trie with the original list, and further
+ * changes of one of them do not affect the other. The current version is stored in a volatile field, so a snapshot
+ * can be taken from any thread without locking, while a single writer thread keeps changing the list. By the same
+ * reason, the iterator and the spliterator never throw {@link java.util.ConcurrentModificationException}: they go
+ * over the version of the list that existed when they were created.
+ *
+ * @param <T> a type of elements
+ */
+public class PersistentList<T> implements List<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[0];
+    private static final Trie EMPTY = new Trie(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    private volatile Trie trie;
+
+    public PersistentList() {
+        this.trie = EMPTY;
+    }
+
+    private PersistentList(Trie trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Creates a list of given elements in O(n), filling the leaves and the internal nodes level by level.
+     *
+     * @param elements given elements
+     * @return list of given elements
+     */
+    @SafeVarargs
+    public static <T> PersistentList<T> of(T... elements) {
+        return new PersistentList<>(Trie.build(Arrays.copyOf(elements, elements.length, Object[].class)));
+    }
+
+    /**
+     * Returns a list that contains the same elements as this one. It shares the whole trie with this list, so it
+     * takes O(1) regardless of the list size.
+     *
+     * @return an independent copy of this list
+     */
+    public PersistentList<T> snapshot() {
+        return new PersistentList<>(trie);
+    }
+
+    @Override
+    public void add(T element) {
+        trie = trie.append(element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        var current = trie;
+        Objects.checkIndex(index, current.size + 1);
+        if (index == current.size) {
+            trie = current.append(element);
+            return;
+        }
+        var elements = new Object[current.size + 1];
+        current.copyTo(elements, 0, index, 0);
+        elements[index] = element;
+        current.copyTo(elements, index, current.size, index + 1);
+        trie = Trie.build(elements);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        var current = trie;
+        Objects.checkIndex(index, current.size);
+        trie = current.set(index, element);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        var current = trie;
+        Objects.checkIndex(index, current.size);
+        return (T) current.get(index);
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        var current = trie;
+        if (current.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) current.get(0);
+    }
+
+    /**
+     * @throws NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        var current = trie;
+        if (current.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) current.tail[current.tail.length - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        var current = trie;
+        Objects.checkIndex(index, current.size);
+        var removed = (T) current.get(index);
+        if (index == current.size - 1) {
+            trie = current.removeLast();
+            return removed;
+        }
+        var elements = new Object[current.size - 1];
+        current.copyTo(elements, 0, index, 0);
+        current.copyTo(elements, index + 1, current.size, index);
+        trie = Trie.build(elements);
+        return removed;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (var listElement : this) {
+            if (Objects.equals(listElement, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return trie.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return trie.size;
+    }
+
+    @Override
+    public void clear() {
+        trie = EMPTY;
+    }
+
+    /**
+     * Returns an iterator over the current version of the list. It reads a leaf array once per 32 elements.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new TrieIterator<>(trie);
+    }
+
+    /**
+     * Returns a spliterator over the current version of the list, that reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#IMMUTABLE} characteristics.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        var current = trie;
+        return new TrieSpliterator<>(current, 0, current.size);
+    }
+
+    /**
+     * An immutable version of the list.
+     *
+     * @param size  a number of elements
+     * @param shift a number of bits of an index used below the root level, it is 5 for a root which children are
+     *              leaves, and grows by 5 with every level
+     * @param root  a root node, which contains all leaves except the tail
+     * @param tail  the last leaf, it contains from 1 to 32 elements unless the list is empty
+     */
+    private record Trie(int size, int shift, Object[] root, Object[] tail) {
+
+        static Trie build(Object[] elements) {
+            int size = elements.length;
+            if (size == 0) {
+                return EMPTY;
+            }
+            int tailOffset = tailOffset(size);
+            var nodes = new Object[tailOffset >>> BITS];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+            }
+            int shift = BITS;
+            while (nodes.length > WIDTH) {
+                var parents = new Object[(nodes.length + MASK) >>> BITS];
+                for (int i = 0; i < parents.length; i++) {
+                    parents[i] = Arrays.copyOfRange(nodes, i << BITS, Math.min((i + 1) << BITS, nodes.length));
+                }
+                nodes = parents;
+                shift += BITS;
+            }
+            return new Trie(size, shift, nodes, Arrays.copyOfRange(elements, tailOffset, size));
+        }
+
+        static int tailOffset(int size) {
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        Object get(int index) {
+            return leafFor(index)[index & MASK];
+        }
+
+        Object[] leafFor(int index) {
+            if (index >= tailOffset(size)) {
+                return tail;
+            }
+            var node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(index >>> level) & MASK];
+            }
+            return node;
+        }
+
+        void copyTo(Object[] target, int from, int to, int targetIndex) {
+            for (int index = from; index < to; ) {
+                var leaf = leafFor(index);
+                int offset = index & MASK;
+                int length = Math.min(leaf.length - offset, to - index);
+                System.arraycopy(leaf, offset, target, targetIndex, length);
+                index += length;
+                targetIndex += length;
+            }
+        }
+
+        Trie append(Object element) {
+            if (size - tailOffset(size) < WIDTH) {
+                var newTail = Arrays.copyOf(tail, tail.length + 1);
+                newTail[tail.length] = element;
+                return new Trie(size + 1, shift, root, newTail);
+            }
+            // the tail is full, so it is pushed to the tree, and a new tail is started
+            if ((size >>> BITS) > (1 << shift)) {
+                var newRoot = new Object[]{root, newPath(shift, tail)};
+                return new Trie(size + 1, shift + BITS, newRoot, new Object[]{element});
+            }
+            return new Trie(size + 1, shift, pushTail(shift, root), new Object[]{element});
+        }
+
+        private Object[] pushTail(int level, Object[] parent) {
+            int childIndex = ((size - 1) >>> level) & MASK;
+            var result = Arrays.copyOf(parent, childIndex + 1);
+            if (level == BITS) {
+                result[childIndex] = tail;
+            } else if (childIndex < parent.length) {
+                result[childIndex] = pushTail(level - BITS, (Object[]) parent[childIndex]);
+            } else {
+                result[childIndex] = newPath(level - BITS, tail);
+            }
+            return result;
+        }
+
+        private static Object[] newPath(int level, Object[] node) {
+            return level == 0 ? node : new Object[]{newPath(level - BITS, node)};
+        }
+
+        Trie set(int index, Object element) {
+            if (index >= tailOffset(size)) {
+                var newTail = tail.clone();
+                newTail[index & MASK] = element;
+                return new Trie(size, shift, root, newTail);
+            }
+            return new Trie(size, shift, set(shift, root, index, element), tail);
+        }
+
+        private static Object[] set(int level, Object[] node, int index, Object element) {
+            var result = node.clone();
+            if (level == 0) {
+                result[index & MASK] = element;
+            } else {
+                int childIndex = (index >>> level) & MASK;
+                result[childIndex] = set(level - BITS, (Object[]) node[childIndex], index, element);
+            }
+            return result;
+        }
+
+        Trie removeLast() {
+            if (size == 1) {
+                return EMPTY;
+            }
+            if (tail.length > 1) {
+                return new Trie(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+            }
+            // the tail becomes empty, so the rightmost leaf of the tree becomes a new tail
+            var newTail = leafFor(size - 2);
+            var newRoot = popTail(shift, root);
+            int newShift = shift;
+            if (newRoot == null) {
+                newRoot = EMPTY_NODE;
+            } else if (shift > BITS && newRoot.length == 1) {
+                newRoot = (Object[]) newRoot[0];
+                newShift -= BITS;
+            }
+            return new Trie(size - 1, newShift, newRoot, newTail);
+        }
+
+        /**
+         * @return a copy of the node without the rightmost leaf, or null if the node becomes empty
+         */
+        private Object[] popTail(int level, Object[] node) {
+            int childIndex = ((size - 2) >>> level) & MASK;
+            if (level == BITS) {
+                return childIndex == 0 ? null : Arrays.copyOf(node, childIndex);
+            }
+            var newChild = popTail(level - BITS, (Object[]) node[childIndex]);
+            if (newChild == null) {
+                return childIndex == 0 ? null : Arrays.copyOf(node, childIndex);
+            }
+            var result = Arrays.copyOf(node, childIndex + 1);
+            result[childIndex] = newChild;
+            return result;
+        }
+    }
+
+    private static class TrieIterator<T> implements Iterator<T> {
+        private final Trie trie;
+        private Object[] leaf;
+        private int cursor;
+
+        TrieIterator(Trie trie) {
+            this.trie = trie;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < trie.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (cursor >= trie.size) {
+                throw new NoSuchElementException();
+            }
+            if ((cursor & MASK) == 0) {
+                leaf = trie.leafFor(cursor);
+            }
+            return (T) leaf[cursor++ & MASK];
+        }
+    }
+
+    private static class TrieSpliterator<T> implements Spliterator<T> {
+        private final Trie trie;
+        private int index;
+        private final int fence;
+
+        TrieSpliterator(Trie trie, int index, int fence) {
+            this.trie = trie;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept((T) trie.get(index++));
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            while (index < fence) {
+                var leaf = trie.leafFor(index);
+                int end = Math.min(fence, (index | MASK) + 1);
+                for (; index < end; index++) {
+                    action.accept((T) leaf[index & MASK]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            var prefix = new TrieSpliterator<T>(trie, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+    }
+}
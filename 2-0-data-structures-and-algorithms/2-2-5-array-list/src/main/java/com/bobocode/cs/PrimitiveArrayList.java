@@ -0,0 +1,204 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * {@link PrimitiveArrayList} is a base class of the lists that store primitive values in a plain array:
+ * {@link IntArrayList}, {@link LongArrayList} and {@link DoubleArrayList}. It keeps everything that does not depend on
+ * the element type: growth of the array, index checks, shifting of elements on add and remove, fail-fast checks, and
+ * the cursor of the iterator and the range of the spliterator.
+ * <p>
+ * A subclass only reads and writes array elements, so the unboxed methods access a primitive array directly.
+ *
+ * @param <T> boxed element type
+ * @param <A> primitive array type
+ */
+abstract class PrimitiveArrayList<T, A> implements List<T> {
+    static final int DEFAULT_CAPACITY = 5;
+
+    A elements;
+    int size;
+    int modCount;
+
+    PrimitiveArrayList(A elements) {
+        this.elements = elements;
+    }
+
+    static int checkCapacity(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        return initCapacity;
+    }
+
+    /**
+     * Returns the length of the underlying array.
+     */
+    abstract int capacity();
+
+    /**
+     * Returns a copy of the underlying array, truncated or padded with zeros to the new length.
+     */
+    abstract A copyOf(int newLength);
+
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Grows the underlying array, so it can store at least a given number of elements without any further resize.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            elements = copyOf(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the underlying array to the list size, so the list does not hold any unused memory.
+     */
+    public void trimToSize() {
+        if (size < capacity()) {
+            elements = copyOf(size);
+        }
+    }
+
+    /**
+     * Makes room for an element at the end of the list.
+     *
+     * @return the index of the new element
+     */
+    int append() {
+        growIfNeeded(size + 1);
+        modCount++;
+        return size++;
+    }
+
+    /**
+     * Shifts the elements starting from the index one position to the right, to make room for a new element.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the list size
+     */
+    void insertAt(int index) {
+        Objects.checkIndex(index, size + 1);
+        growIfNeeded(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Shifts the elements after the index one position to the left, over the removed element.
+     */
+    void removeAt(int index) {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+    }
+
+    void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void growIfNeeded(int minCapacity) {
+        int capacity = capacity();
+        if (minCapacity > capacity) {
+            elements = copyOf(Math.max(minCapacity, capacity + (capacity >> 1) + 1));
+        }
+    }
+
+    /**
+     * A cursor of a fail-fast iterator. A subclass reads the element at {@link Cursor#nextIndex()}.
+     */
+    abstract class Cursor {
+        private int cursor;
+        private final int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        int nextIndex() {
+            checkForComodification(expectedModCount);
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return cursor++;
+        }
+    }
+
+    /**
+     * A range of a fail-fast spliterator, that reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED} characteristics. A subclass reads the elements from {@link Range#index} to
+     * {@link Range#fence}.
+     */
+    abstract class Range {
+        int index;
+        final int fence;
+        final int expectedModCount;
+
+        Range(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Moves the start of this range to its middle.
+         *
+         * @return the former start, that is the start of the prefix, or -1 if the range is too small to split
+         */
+        int split() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return -1;
+            }
+            int start = index;
+            index = mid;
+            return start;
+        }
+
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
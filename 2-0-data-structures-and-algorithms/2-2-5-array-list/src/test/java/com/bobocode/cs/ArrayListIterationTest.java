@@ -0,0 +1,19 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@DisplayName("List iteration Test")
+class ArrayListIterationTest extends AbstractListIterationTest {
+
+    @Override
+    protected Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("ArrayList", (Supplier<List<Integer>>) ArrayList::new),
+                Arguments.of("IntArrayList", (Supplier<List<Integer>>) IntArrayList::new)
+        );
+    }
+}
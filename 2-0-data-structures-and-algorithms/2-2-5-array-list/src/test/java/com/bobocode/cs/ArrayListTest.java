@@ -361,6 +361,116 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void addAllAppendsElementsToTheEnd() {
+        var list = new ArrayList<Integer>(2);
+        list.add(1);
+
+        list.addAll(new Integer[]{2, 3, 4, 5});
+        arrayList = list;
+
+        assertThat(getTestSize()).isEqualTo(5);
+        assertThat(list.get(0)).isEqualTo(1);
+        assertThat(list.get(4)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(38)
+    void addAllGrowsArrayOnlyOnce() {
+        var list = new ArrayList<Integer>(2);
+        arrayList = list;
+        Object[] initialArray = getTestArray();
+
+        list.addAll(new Integer[100]);
+        Object[] grownArray = getTestArray();
+        list.add(0);
+
+        assertThat(grownArray).isNotSameAs(initialArray);
+        assertThat(grownArray.length).isEqualTo(100);
+        assertThat(getTestSize()).isEqualTo(101);
+    }
+
+    @Test
+    @Order(39)
+    void insertAllShiftsTheTail() {
+        fillTestArray(1, 2, 6, 7);
+        var list = (ArrayList<Integer>) arrayList;
+
+        list.insertAll(2, new Integer[]{3, 4, 5});
+
+        assertThat(getTestSize()).isEqualTo(7);
+        for (int i = 0; i < 7; i++) {
+            assertThat(list.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(40)
+    void insertAllByIndexLargerThanListSize() {
+        fillTestArray(1, 2);
+        var list = (ArrayList<Integer>) arrayList;
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.insertAll(3, new Integer[]{3}));
+    }
+
+    @Test
+    @Order(41)
+    void removeRangeShiftsTheTailAndClearsReferences() {
+        fillTestArray(1, 2, 3, 4, 5, 6);
+        var list = (ArrayList<Integer>) arrayList;
+        Object[] internalArray = getTestArray();
+
+        list.removeRange(1, 4);
+
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(internalArray[0]).isEqualTo(1);
+        assertThat(internalArray[1]).isEqualTo(5);
+        assertThat(internalArray[2]).isEqualTo(6);
+        assertThat(internalArray[3]).isNull();
+        assertThat(internalArray[5]).isNull();
+    }
+
+    @Test
+    @Order(42)
+    void removeRangeThrowsExceptionWhenRangeIsOutOfBounds() {
+        fillTestArray(1, 2, 3);
+        var list = (ArrayList<Integer>) arrayList;
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.removeRange(2, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.removeRange(2, 1));
+    }
+
+    @Test
+    @Order(43)
+    void ensureCapacityPresizesArray() {
+        var list = new ArrayList<Integer>();
+        arrayList = list;
+
+        list.ensureCapacity(1000);
+
+        assertThat(getTestArray().length).isEqualTo(1000);
+        assertThat(getTestSize()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(44)
+    void trimToSizeReleasesUnusedCapacity() {
+        var list = new ArrayList<Integer>(100);
+        arrayList = list;
+        list.add(1);
+        list.add(2);
+
+        list.trimToSize();
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        list.add(3);
+        assertThat(list.getLast()).isEqualTo(3);
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
@@ -0,0 +1,170 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("PersistentList Test")
+class PersistentListTest {
+    // more than 32 * 32 * 32 + 32 elements, so the trie gets three levels of internal nodes
+    private static final int LARGE_SIZE = 40_000;
+
+    private PersistentList<Integer> list = new PersistentList<>();
+
+    @Test
+    @DisplayName("add, get, set and remove work like in ArrayList")
+    void basicOperations() {
+        list = PersistentList.of(1, 2, 3);
+
+        list.add(4);
+        list.add(0, 0);
+        list.set(2, 20);
+
+        assertThat(list.stream()).containsExactly(0, 1, 20, 3, 4);
+        assertThat(list.getFirst()).isZero();
+        assertThat(list.getLast()).isEqualTo(4);
+        assertThat(list.remove(2)).isEqualTo(20);
+        assertThat(list.remove(3)).isEqualTo(4);
+        assertThat(list.stream()).containsExactly(0, 1, 3);
+        assertThat(list.contains(3)).isTrue();
+        assertThat(list.contains(20)).isFalse();
+
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("operations throw exceptions when index is out of bounds or list is empty")
+    void exceptions() {
+        list = PersistentList.of(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(-1, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(2, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(1));
+        list.remove(0);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getLast());
+    }
+
+    @Test
+    @DisplayName("elements are kept when the trie grows and shrinks by levels")
+    void growAndShrink() {
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < LARGE_SIZE; i += 7) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        for (int i = LARGE_SIZE - 1; i >= 0; i--) {
+            assertThat(list.getLast()).isEqualTo(i);
+            assertThat(list.remove(i)).isEqualTo(i);
+        }
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("of builds the same list as a sequence of adds")
+    void ofMatchesAdds() {
+        var elements = IntStream.range(0, LARGE_SIZE).boxed().toArray(Integer[]::new);
+        list = PersistentList.of(elements);
+
+        assertThat(list.size()).isEqualTo(LARGE_SIZE);
+        assertThat(list.stream().collect(Collectors.toList())).containsExactly(elements);
+        list.add(LARGE_SIZE);
+        assertThat(list.remove(LARGE_SIZE)).isEqualTo(LARGE_SIZE);
+        assertThat(list.remove(LARGE_SIZE - 1)).isEqualTo(LARGE_SIZE - 1);
+        assertThat(list.getLast()).isEqualTo(LARGE_SIZE - 2);
+    }
+
+    @Test
+    @DisplayName("snapshot is not affected by further changes of the original list")
+    void snapshotIsIndependent() {
+        for (int i = 0; i < 2_000; i++) {
+            list.add(i);
+        }
+
+        var snapshot = list.snapshot();
+        var iterator = list.iterator();
+        list.set(1_000, -1);
+        list.remove(1_999);
+        snapshot.add(2_000);
+
+        assertThat(list.get(1_000)).isEqualTo(-1);
+        assertThat(list.size()).isEqualTo(1_999);
+        assertThat(snapshot.get(1_000)).isEqualTo(1_000);
+        assertThat(snapshot.size()).isEqualTo(2_001);
+        int expected = 0;
+        while (iterator.hasNext()) {
+            assertThat(iterator.next()).isEqualTo(expected++);
+        }
+        assertThat(expected).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("parallel stream visits all elements")
+    void parallelStream() {
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.add(i);
+        }
+
+        long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo((long) LARGE_SIZE * (LARGE_SIZE - 1) / 2);
+    }
+
+    @Test
+    @DisplayName("random operations on random snapshots match java.util.ArrayList")
+    void randomOperationsMatchArrayList() {
+        var random = new Random(16);
+        var lists = new java.util.ArrayList<PersistentList<Integer>>();
+        var expectedLists = new java.util.ArrayList<java.util.ArrayList<Integer>>();
+        lists.add(list);
+        expectedLists.add(new java.util.ArrayList<>());
+
+        for (int i = 0; i < 30_000; i++) {
+            int version = random.nextInt(lists.size());
+            var actual = lists.get(version);
+            var expected = expectedLists.get(version);
+            int operation = random.nextInt(100);
+            if (operation < 50 || expected.isEmpty()) {
+                actual.add(i);
+                expected.add(i);
+            } else if (operation < 70) {
+                int index = random.nextInt(expected.size());
+                actual.set(index, i);
+                expected.set(index, i);
+            } else if (operation < 90) {
+                assertThat(actual.remove(expected.size() - 1)).isEqualTo(expected.remove(expected.size() - 1));
+            } else if (operation < 93) {
+                int index = random.nextInt(expected.size() + 1);
+                actual.add(index, i);
+                expected.add(index, i);
+            } else if (operation < 96) {
+                int index = random.nextInt(expected.size());
+                assertThat(actual.remove(index)).isEqualTo(expected.remove(index));
+            } else if (lists.size() < 30) {
+                lists.add(actual.snapshot());
+                expectedLists.add(new java.util.ArrayList<>(expected));
+            }
+            assertThat(actual.size()).isEqualTo(expected.size());
+        }
+        for (int version = 0; version < lists.size(); version++) {
+            var expected = expectedLists.get(version);
+            var actual = lists.get(version);
+            assertThat(actual.stream().collect(Collectors.toList())).isEqualTo(expected);
+            for (int index = 0; index < expected.size(); index++) {
+                assertThat(actual.get(index)).isEqualTo(expected.get(index));
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Primitive array lists Test")
+class PrimitiveArrayListTest {
+
+    @Nested
+    @DisplayName("IntArrayList Test")
+    class IntArrayListTest {
+
+        private IntArrayList list = new IntArrayList(2);
+
+        @Test
+        @DisplayName("add, get, set and remove work with unboxed values")
+        void unboxedOperations() {
+            list.add(10);
+            list.add(30);
+            list.add(1, 20);
+            list.set(2, 40);
+
+            assertThat(list.size()).isEqualTo(3);
+            assertThat(list.getInt(0)).isEqualTo(10);
+            assertThat(list.getInt(1)).isEqualTo(20);
+            assertThat(list.getInt(2)).isEqualTo(40);
+            assertThat(list.removeInt(1)).isEqualTo(20);
+            assertThat(list.toArray()).containsExactly(10, 40);
+        }
+
+        @Test
+        @DisplayName("List methods accept and return boxed values")
+        void boxedOperations() {
+            List<Integer> boxedList = list;
+            boxedList.add(Integer.valueOf(1000));
+            boxedList.add(0, Integer.valueOf(500));
+
+            assertThat(boxedList.getFirst()).isEqualTo(500);
+            assertThat(boxedList.getLast()).isEqualTo(1000);
+            assertThat(boxedList.contains(1000)).isTrue();
+            assertThat(boxedList.contains((Integer) null)).isFalse();
+            assertThat(boxedList.remove(0)).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("index checks and empty list checks throw exceptions")
+        void outOfBounds() {
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.getInt(0));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(1, 5));
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> list.getFirst());
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new IntArrayList(0));
+        }
+
+        @Test
+        @DisplayName("stream reads list elements only")
+        void stream() {
+            list = IntArrayList.of(1, 2, 3, 4);
+            list.ensureCapacity(100);
+
+            assertThat(list.intStream().sum()).isEqualTo(10);
+            list.clear();
+            assertThat(list.intStream().count()).isZero();
+            assertThat(list.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("LongArrayList Test")
+    class LongArrayListTest {
+
+        @Test
+        @DisplayName("add, get, set, remove and contains work with unboxed values")
+        void unboxedOperations() {
+            var list = LongArrayList.of(1L, 2L);
+            list.add(3_000_000_000L);
+            list.set(0, -1L);
+
+            assertThat(list.getLong(2)).isEqualTo(3_000_000_000L);
+            assertThat(list.contains(-1L)).isTrue();
+            assertThat(list.contains(1L)).isFalse();
+            assertThat(list.removeLong(1)).isEqualTo(2L);
+            assertThat(list.longStream().toArray()).containsExactly(-1L, 3_000_000_000L);
+        }
+
+        @Test
+        @DisplayName("trimToSize releases unused capacity")
+        void trimToSize() {
+            var list = new LongArrayList(100);
+            list.add(1L);
+
+            list.trimToSize();
+            list.add(2L);
+
+            assertThat(list.toArray()).containsExactly(1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("DoubleArrayList Test")
+    class DoubleArrayListTest {
+
+        @Test
+        @DisplayName("add, get, set, remove and contains work with unboxed values")
+        void unboxedOperations() {
+            var list = new DoubleArrayList();
+            list.add(1.5);
+            list.add(Double.NaN);
+            list.add(0, 0.5);
+            list.set(1, 2.5);
+
+            assertThat(list.getDouble(1)).isEqualTo(2.5);
+            assertThat(list.contains(Double.NaN)).isTrue();
+            assertThat(list.contains(1.5)).isFalse();
+            assertThat(list.removeDouble(0)).isEqualTo(0.5);
+            assertThat(list.doubleStream().limit(1).sum()).isEqualTo(2.5);
+        }
+
+        @Test
+        @DisplayName("list grows past the initial capacity and its iterator fails fast")
+        void growthAndIteration() {
+            var list = new DoubleArrayList(1);
+            for (int i = 0; i < 100; i++) {
+                list.add(0, i);
+            }
+            var iterator = list.iterator();
+
+            assertThat(list.size()).isEqualTo(100);
+            assertThat(iterator.nextDouble()).isEqualTo(99.0);
+            assertThat(list.getLast()).isEqualTo(0.0);
+            list.removeDouble(50);
+            assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::nextDouble);
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory footprint Test")
+    class MemoryFootprintTest {
+        private static final int SIZE = 1_000_000;
+
+        @Test
+        @DisplayName("IntArrayList allocates several times less memory than ArrayList<Integer>")
+        void intArrayListFootprint() {
+            long boxedBytes = allocatedBytes(() -> {
+                var list = new ArrayList<Integer>(SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                    list.add(i + 1_000);
+                }
+                return list;
+            });
+            long primitiveBytes = allocatedBytes(() -> {
+                var list = new IntArrayList(SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                    list.add(i + 1_000);
+                }
+                return list;
+            });
+
+            assertThat(primitiveBytes).isLessThan(boxedBytes / 3);
+        }
+
+        @Test
+        @DisplayName("LongArrayList allocates at least two times less memory than ArrayList<Long>")
+        void longArrayListFootprint() {
+            long boxedBytes = allocatedBytes(() -> {
+                var list = new ArrayList<Long>(SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                    list.add(i + 1_000L);
+                }
+                return list;
+            });
+            long primitiveBytes = allocatedBytes(() -> {
+                var list = new LongArrayList(SIZE);
+                for (int i = 0; i < SIZE; i++) {
+                    list.add(i + 1_000L);
+                }
+                return list;
+            });
+
+            assertThat(primitiveBytes).isLessThan(boxedBytes / 2);
+        }
+
+        private long allocatedBytes(Supplier<Object> allocation) {
+            var threadBean = ManagementFactory.getThreadMXBean();
+            assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+            var allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+            long threadId = Thread.currentThread().getId();
+            long before = allocationBean.getThreadAllocatedBytes(threadId);
+            var result = allocation.get();
+            long after = allocationBean.getThreadAllocatedBytes(threadId);
+            assertThat(result).isNotNull();
+            return after - before;
+        }
+    }
+}
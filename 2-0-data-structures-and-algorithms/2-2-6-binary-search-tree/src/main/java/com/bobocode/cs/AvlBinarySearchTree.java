@@ -0,0 +1,271 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree}. Like
+ * {@link RecursiveBinarySearchTree}, it is based on linked nodes, but every node also stores the height of its subtree.
+ * After an insert, the heights are updated on the way back to the root, and a node which subtrees differ in height by
+ * more than one is fixed with one or two rotations.
+ * <p>
+ * Thanks to that, the depth of a tree with n elements never exceeds {@code 1.44 * log2(n + 2)}, no matter in what
+ * order elements are inserted. Both {@link AvlBinarySearchTree#insert(Comparable)} and
+ * {@link AvlBinarySearchTree#contains(Comparable)} take O(log n), and {@link AvlBinarySearchTree#depth()} is
+ * computed in a constant time from the height of the root.
+ * <p>
+ * Every node also stores the size of its subtree, which is updated together with the height. It allows to find the
+ * rank of an element and to select an element by its rank in O(log n), see {@link OrderStatisticTree}.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>> implements OrderStatisticTree<T> {
+    private Node<T> root;
+    private int size;
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        var tree = new AvlBinarySearchTree<T>();
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        int height = 1;
+        int size = 1;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int sizeBefore = size;
+        root = insert(root, element);
+        return size > sizeBefore;
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return new Node<>(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        var current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return true;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return root == null ? 0 : root.height - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        var current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return current.element;
+            }
+            if (comparison < 0) {
+                current = current.left;
+            } else {
+                floor = current.element;
+                current = current.right;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        var current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return current.element;
+            }
+            if (comparison > 0) {
+                current = current.right;
+            } else {
+                ceiling = current.element;
+                current = current.left;
+            }
+        }
+        return ceiling;
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        checkRange(from, to);
+        rangeTraversal(root, from, to, consumer);
+    }
+
+    @Override
+    public int rank(T element) {
+        Objects.requireNonNull(element);
+        int rank = 0;
+        var current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                rank += size(current.left) + 1;
+                current = current.right;
+            } else {
+                return rank + size(current.left);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int index) {
+        Objects.checkIndex(index, size);
+        var current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current.element;
+            }
+        }
+    }
+
+    /**
+     * Restores the balance of a node, which subtrees differ in height by at most two after an insert.
+     *
+     * @return the new root of the subtree
+     */
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = balance(node);
+        if (balance > 1) {
+            if (balance(node.left) < 0) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (balance(node.right) > 0) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        var newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        var newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private int balance(Node<T> node) {
+        return height(node.left) - height(node.right);
+    }
+
+    private void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private int height(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private int size(Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private void rangeTraversal(Node<T> node, T from, T to, Consumer<T> consumer) {
+        if (node == null) {
+            return;
+        }
+        int fromComparison = from.compareTo(node.element);
+        int toComparison = to.compareTo(node.element);
+        if (fromComparison < 0) {
+            rangeTraversal(node.left, from, to, consumer);
+        }
+        if (fromComparison <= 0 && toComparison >= 0) {
+            consumer.accept(node.element);
+        }
+        if (toComparison > 0) {
+            rangeTraversal(node.right, from, to, consumer);
+        }
+    }
+
+    private void checkRange(T from, T to) {
+        if (from.compareTo(Objects.requireNonNull(to)) > 0) {
+            throw new IllegalArgumentException("From should not be greater than to");
+        }
+    }
+}
+
@@ -29,4 +29,22 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the greatest element less than or equal to the given one, or null if there is no such element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element greater than or equal to the given one, or null if there is no such element
+     */
+    T ceiling(T element);
+
+    /**
+     * traverse elements between from and to (both inclusive) in element's natural order. Subtrees that are out of the
+     * range are skipped, so it takes O(h + k), where h is the tree depth and k is the number of visited elements
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    void rangeTraversal(T from, T to, Consumer<T> consumer);
 }
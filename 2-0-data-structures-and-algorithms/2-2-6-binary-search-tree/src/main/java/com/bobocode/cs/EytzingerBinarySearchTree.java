@@ -0,0 +1,260 @@
+package com.bobocode.cs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * {@link EytzingerBinarySearchTree} is an implementation of a {@link BinarySearchTree} for the load-once,
+ * query-many workloads. Instead of linked nodes, it is a complete binary tree stored in a single array in BFS order
+ * (Eytzinger layout): the root is at index 1, and children of a node at index k are at indices 2k and 2k + 1.
+ * <p>
+ * There are no node objects and no references to follow, so a search reads only the array and the elements
+ * themselves. The first levels of the tree are stored next to each other, so they stay in a CPU cache between
+ * searches, and the index of the next node is computed instead of being read from a node. The tree is always
+ * perfectly balanced, so its depth is {@code floor(log2(n))}.
+ * <p>
+ * The tree is built from sorted elements in O(n). Inserted elements are buffered in a loading phase, and they are
+ * merged with the elements of the tree and laid out again on the first query after them, or on an explicit
+ * {@link EytzingerBinarySearchTree#freeze()}. So a batch of inserts costs a single rebuild, while inserts that are
+ * interleaved with queries cost a rebuild each.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class EytzingerBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    /**
+     * Elements in BFS order starting from index 1. Index 0 is not used, so the indices of children are computed
+     * without an offset.
+     */
+    private Object[] elements;
+    private int size;
+    /**
+     * Inserted elements that are not in the array yet, or {@code null} if there are none.
+     */
+    private TreeSet<T> pending;
+
+    /**
+     * Creates an empty tree, that is filled using {@link EytzingerBinarySearchTree#insert(Comparable)}.
+     */
+    public EytzingerBinarySearchTree() {
+        this.elements = new Object[1];
+    }
+
+    /**
+     * Builds a tree from the given elements in O(n).
+     *
+     * @param sortedElements elements in a strictly increasing order
+     * @throws IllegalArgumentException if elements are not sorted or contain duplicates
+     */
+    public EytzingerBinarySearchTree(Collection<? extends T> sortedElements) {
+        build(sortedElements);
+    }
+
+    /**
+     * Creates a tree from elements in any order. Unlike the constructor, it sorts a copy of elements and removes
+     * duplicates first, so it takes O(n log n).
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> EytzingerBinarySearchTree<T> of(T... elements) {
+        var sorted = elements.clone();
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (var element : sorted) {
+            Objects.requireNonNull(element);
+            if (unique == 0 || sorted[unique - 1].compareTo(element) != 0) {
+                sorted[unique++] = element;
+            }
+        }
+        return new EytzingerBinarySearchTree<>(Arrays.asList(sorted).subList(0, unique));
+    }
+
+    /**
+     * Lays out the inserted elements together with the elements of the tree. It's called by every query, so it is
+     * needed only to pay the cost of the layout in advance.
+     */
+    public void freeze() {
+        if (pending == null) {
+            return;
+        }
+        // both sequences are sorted and disjoint, so they are merged in O(n)
+        var merged = new ArrayList<T>(size + pending.size());
+        var inserted = pending.iterator();
+        T next = inserted.next();
+        for (int index = first(1); index != 0; index = successor(index)) {
+            var current = element(index);
+            while (next != null && next.compareTo(current) < 0) {
+                merged.add(next);
+                next = inserted.hasNext() ? inserted.next() : null;
+            }
+            merged.add(current);
+        }
+        for (; next != null; next = inserted.hasNext() ? inserted.next() : null) {
+            merged.add(next);
+        }
+        pending = null;
+        build(merged);
+    }
+
+    private void build(Collection<? extends T> sortedElements) {
+        int newSize = sortedElements.size();
+        this.elements = new Object[newSize + 1];
+        this.size = newSize;
+        fill(sortedElements.iterator(), 1, null);
+    }
+
+    /**
+     * Fills the subtree of a node at the given index in-order, so elements are taken from the iterator in the
+     * sorted order. The recursion depth is equal to the tree depth, which is logarithmic.
+     *
+     * @return the last element put to the subtree, or previous if the subtree is empty
+     */
+    private T fill(Iterator<? extends T> iterator, int index, T previous) {
+        if (index > size) {
+            return previous;
+        }
+        previous = fill(iterator, 2 * index, previous);
+        T element = Objects.requireNonNull(iterator.next());
+        if (previous != null && previous.compareTo(element) >= 0) {
+            throw new IllegalArgumentException("Elements should be sorted and unique");
+        }
+        elements[index] = element;
+        return fill(iterator, 2 * index + 1, element);
+    }
+
+    /**
+     * Buffers an element until the next query. The tree is not laid out again here, so a batch of inserts is merged
+     * into the tree at once.
+     *
+     * @param element an element to insert
+     * @return true if the element was not in the tree
+     */
+    @Override
+    public boolean insert(T element) {
+        if (containsInArray(Objects.requireNonNull(element))) {
+            return false;
+        }
+        if (pending == null) {
+            pending = new TreeSet<>();
+        }
+        return pending.add(element);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        freeze();
+        return containsInArray(Objects.requireNonNull(element));
+    }
+
+    @Override
+    public int size() {
+        return pending == null ? size : size + pending.size();
+    }
+
+    @Override
+    public int depth() {
+        freeze();
+        return size == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(size);
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        freeze();
+        for (int index = first(1); index != 0; index = successor(index)) {
+            consumer.accept(element(index));
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        freeze();
+        T floor = null;
+        int index = 1;
+        while (index <= size) {
+            var current = element(index);
+            if (current.compareTo(element) <= 0) {
+                floor = current;
+                index = 2 * index + 1;
+            } else {
+                index = 2 * index;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        freeze();
+        int index = lowerBound(Objects.requireNonNull(element));
+        return index == 0 ? null : element(index);
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(Objects.requireNonNull(to)) > 0) {
+            throw new IllegalArgumentException("From should not be greater than to");
+        }
+        freeze();
+        for (int index = lowerBound(from); index != 0; index = successor(index)) {
+            var current = element(index);
+            if (current.compareTo(to) > 0) {
+                return;
+            }
+            consumer.accept(current);
+        }
+    }
+
+    private boolean containsInArray(T element) {
+        int index = lowerBound(element);
+        return index != 0 && element(index).compareTo(element) == 0;
+    }
+
+    /**
+     * Finds the least element that is greater than or equal to the given one. The loop always goes down to a leaf
+     * without an early exit, so it has a fixed number of iterations and one comparison per level. Every step appends
+     * a bit to the index: 1 if the search went right. The last turn to the left happened at the wanted node, so it is
+     * restored by dropping all trailing ones and one more bit.
+     *
+     * @return the index of the found element, or 0 if all elements are less than the given one
+     */
+    private int lowerBound(T element) {
+        int index = 1;
+        while (index <= size) {
+            index = 2 * index + (element(index).compareTo(element) < 0 ? 1 : 0);
+        }
+        return index >>> (Integer.numberOfTrailingZeros(~index) + 1);
+    }
+
+    /**
+     * @return the index of the leftmost node in the subtree of a node at the given index, or 0 if it is out of tree
+     */
+    private int first(int index) {
+        if (index > size) {
+            return 0;
+        }
+        while (2 * index <= size) {
+            index *= 2;
+        }
+        return index;
+    }
+
+    /**
+     * @return the index of the next node in natural order, or 0 if the node at the given index is the last one
+     */
+    private int successor(int index) {
+        if (2 * index + 1 <= size) {
+            return first(2 * index + 1);
+        }
+        // go up while the node is a right child, then one more step up to the parent, for which it is a left child
+        return index >>> (Integer.numberOfTrailingZeros(~index) + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) elements[index];
+    }
+}
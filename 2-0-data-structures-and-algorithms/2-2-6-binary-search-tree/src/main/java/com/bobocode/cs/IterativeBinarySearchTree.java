@@ -0,0 +1,247 @@
+package com.bobocode.cs;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link IterativeBinarySearchTree} is an implementation of a {@link BinarySearchTree} that has the same structure
+ * as {@link RecursiveBinarySearchTree}, but does not use recursion. All operations run in a constant stack space,
+ * so a degenerate tree (e.g. built from sorted elements) does not cause {@link StackOverflowError}, and walking down
+ * the tree does not pay for a call frame per level.
+ * <p>
+ * {@link IterativeBinarySearchTree#inOrderTraversal(Consumer)} and {@link IterativeBinarySearchTree#depth()} are based
+ * on Morris traversal, which does not allocate a stack either. Before going down to the left subtree of a node, it
+ * makes the rightmost node of that subtree (the in-order predecessor) temporarily point back to the node. When the
+ * traversal comes back using that link, it restores the original null reference. Once the traversal is finished,
+ * the tree is exactly the same as before.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class IterativeBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> IterativeBinarySearchTree<T> of(T... elements) {
+        var tree = new IterativeBinarySearchTree<T>();
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        if (root == null) {
+            root = new Node<>(element);
+            size++;
+            return true;
+        }
+        var current = root;
+        while (true) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return false;
+            }
+            var next = comparison < 0 ? current.left : current.right;
+            if (next == null) {
+                if (comparison < 0) {
+                    current.left = new Node<>(element);
+                } else {
+                    current.right = new Node<>(element);
+                }
+                size++;
+                return true;
+            }
+            current = next;
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        var current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return true;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Computes the depth using Morris traversal. The current depth is increased on every step down. When the traversal
+     * comes back to a node using a temporary link, the depth of that node is restored by subtracting the length of the
+     * path from the node to its predecessor, which is measured anyway while looking for the predecessor.
+     */
+    @Override
+    public int depth() {
+        int maxDepth = 0;
+        int depth = 0;
+        var current = root;
+        while (current != null) {
+            if (current.left == null) {
+                maxDepth = Math.max(maxDepth, depth);
+                current = current.right;
+                depth++;
+                continue;
+            }
+            var predecessor = current.left;
+            int pathLength = 1;
+            while (predecessor.right != null && predecessor.right != current) {
+                predecessor = predecessor.right;
+                pathLength++;
+            }
+            if (predecessor.right == null) {
+                maxDepth = Math.max(maxDepth, depth);
+                predecessor.right = current;
+                current = current.left;
+                depth++;
+            } else {
+                predecessor.right = null;
+                // the depth of the predecessor plus one step, minus the path to the predecessor, plus one step right
+                depth -= pathLength;
+                current = current.right;
+            }
+        }
+        return maxDepth;
+    }
+
+    /**
+     * Traverses the tree in element's natural order without recursion and without any additional memory. The consumer
+     * must not modify the tree. If the consumer throws an exception, the traversal is finished without calling it
+     * again, so all temporary links are removed, and then the exception is rethrown.
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        Throwable failure = null;
+        var current = root;
+        while (current != null) {
+            if (current.left == null) {
+                failure = visit(current, consumer, failure);
+                current = current.right;
+                continue;
+            }
+            var predecessor = current.left;
+            while (predecessor.right != null && predecessor.right != current) {
+                predecessor = predecessor.right;
+            }
+            if (predecessor.right == null) {
+                predecessor.right = current;
+                current = current.left;
+            } else {
+                predecessor.right = null;
+                failure = visit(current, consumer, failure);
+                current = current.right;
+            }
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        var current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return current.element;
+            }
+            if (comparison < 0) {
+                current = current.left;
+            } else {
+                floor = current.element;
+                current = current.right;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        var current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison == 0) {
+                return current.element;
+            }
+            if (comparison > 0) {
+                current = current.right;
+            } else {
+                ceiling = current.element;
+                current = current.left;
+            }
+        }
+        return ceiling;
+    }
+
+    /**
+     * Traverses elements between from and to in natural order. The path to the next element is kept in an explicit
+     * stack on the heap, and only nodes which are not less than from are pushed to it.
+     */
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(Objects.requireNonNull(to)) > 0) {
+            throw new IllegalArgumentException("From should not be greater than to");
+        }
+        var stack = new ArrayDeque<Node<T>>();
+        var current = root;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                if (from.compareTo(current.element) <= 0) {
+                    stack.push(current);
+                    current = current.left;
+                } else {
+                    current = current.right;
+                }
+            }
+            var node = stack.poll();
+            if (node == null || to.compareTo(node.element) < 0) {
+                return;
+            }
+            consumer.accept(node.element);
+            current = node.right;
+        }
+    }
+
+    private Throwable visit(Node<T> node, Consumer<T> consumer, Throwable failure) {
+        if (failure != null) {
+            return failure;
+        }
+        try {
+            consumer.accept(node.element);
+            return null;
+        } catch (RuntimeException | Error e) {
+            return e;
+        }
+    }
+}
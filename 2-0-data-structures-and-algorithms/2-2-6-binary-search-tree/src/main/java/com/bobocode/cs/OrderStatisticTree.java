@@ -0,0 +1,20 @@
+package com.bobocode.cs;
+
+/**
+ * {@link OrderStatisticTree} is a {@link BinarySearchTree} that can find elements by their position in natural order.
+ * Every node of such tree stores the size of its subtree, so both operations take O(h), where h is the tree depth.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public interface OrderStatisticTree<T extends Comparable<T>> extends BinarySearchTree<T> {
+    /**
+     * @return number of elements in the tree that are less than the given one
+     */
+    int rank(T element);
+
+    /**
+     * @return the element which rank is equal to the given index
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the tree size
+     */
+    T select(int index);
+}
@@ -1,7 +1,6 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -17,33 +16,177 @@ import java.util.function.Consumer;
  * @author Maksym Stasiuk
  */
 public class RecursiveBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+
+    static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
 
     public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> of(T... elements) {
-        throw new ExerciseNotCompletedException();
+        var tree = new RecursiveBinarySearchTree<T>();
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
     }
 
     @Override
     public boolean insert(T element) {
-        throw new ExerciseNotCompletedException();
+        Objects.requireNonNull(element);
+        if (root == null) {
+            root = new Node<>(element);
+            size++;
+            return true;
+        }
+        return insert(root, element);
     }
 
     @Override
     public boolean contains(T element) {
-        throw new ExerciseNotCompletedException();
+        Objects.requireNonNull(element);
+        return findNode(root, element) != null;
     }
 
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException();
+        return size;
     }
 
     @Override
     public int depth() {
-        throw new ExerciseNotCompletedException();
+        return root == null ? 0 : depth(root) - 1;
     }
 
     @Override
     public void inOrderTraversal(Consumer<T> consumer) {
-        throw new ExerciseNotCompletedException();
+        inOrderTraversal(root, consumer);
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        return floor(root, element);
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        return ceiling(root, element);
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        checkRange(from, to);
+        rangeTraversal(root, from, to, consumer);
+    }
+
+    private boolean insert(Node<T> node, T element) {
+        int comparison = element.compareTo(node.element);
+        if (comparison == 0) {
+            return false;
+        }
+        if (comparison < 0) {
+            if (node.left == null) {
+                node.left = new Node<>(element);
+                size++;
+                return true;
+            }
+            return insert(node.left, element);
+        }
+        if (node.right == null) {
+            node.right = new Node<>(element);
+            size++;
+            return true;
+        }
+        return insert(node.right, element);
+    }
+
+    private Node<T> findNode(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison == 0) {
+            return node;
+        }
+        return findNode(comparison < 0 ? node.left : node.right, element);
+    }
+
+    /**
+     * @return the number of nodes on the longest path from a given node to a leaf
+     */
+    private int depth(Node<T> node) {
+        if (node == null) {
+            return 0;
+        }
+        return 1 + Math.max(depth(node.left), depth(node.right));
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    private T floor(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison == 0) {
+            return node.element;
+        }
+        if (comparison < 0) {
+            return floor(node.left, element);
+        }
+        T rightFloor = floor(node.right, element);
+        return rightFloor != null ? rightFloor : node.element;
+    }
+
+    private T ceiling(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison == 0) {
+            return node.element;
+        }
+        if (comparison > 0) {
+            return ceiling(node.right, element);
+        }
+        T leftCeiling = ceiling(node.left, element);
+        return leftCeiling != null ? leftCeiling : node.element;
+    }
+
+    private void rangeTraversal(Node<T> node, T from, T to, Consumer<T> consumer) {
+        if (node == null) {
+            return;
+        }
+        int fromComparison = from.compareTo(node.element);
+        int toComparison = to.compareTo(node.element);
+        if (fromComparison < 0) {
+            rangeTraversal(node.left, from, to, consumer);
+        }
+        if (fromComparison <= 0 && toComparison >= 0) {
+            consumer.accept(node.element);
+        }
+        if (toComparison > 0) {
+            rangeTraversal(node.right, from, to, consumer);
+        }
+    }
+
+    private void checkRange(T from, T to) {
+        if (from.compareTo(Objects.requireNonNull(to)) > 0) {
+            throw new IllegalArgumentException("From should not be greater than to");
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("AvlBinarySearchTree Test")
+class AvlBinarySearchTreeTest {
+
+    private AvlBinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+    @Test
+    @DisplayName("insert adds only unique elements and contains finds them")
+    void insertAndContains() {
+        tree = AvlBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(13)).isTrue();
+        assertThat(tree.size()).isEqualTo(7);
+        assertThat(tree.contains(7)).isTrue();
+        assertThat(tree.contains(13)).isTrue();
+        assertThat(tree.contains(100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("insert and contains throw exception when element is null")
+    void nullElements() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @DisplayName("depth is zero for empty tree and a tree with a single element")
+    void depthOfSmallTrees() {
+        assertThat(tree.depth()).isZero();
+
+        tree.insert(1);
+
+        assertThat(tree.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("sorted elements are rebalanced into a complete tree")
+    void sortedElementsAreBalanced() {
+        tree = AvlBinarySearchTree.of(1, 2, 3, 4, 5, 6, 7);
+
+        assertThat(tree.depth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("a million sorted keys give a logarithmic depth")
+    void millionSortedKeys() {
+        int count = 1_000_000;
+        for (int i = 0; i < count; i++) {
+            tree.insert(i);
+        }
+
+        double log2 = Math.log(count + 2) / Math.log(2);
+        assertThat(tree.size()).isEqualTo(count);
+        assertThat(tree.depth()).isLessThanOrEqualTo((int) (1.44 * log2));
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(count - 1)).isTrue();
+        assertThat(tree.contains(count)).isFalse();
+    }
+
+    @Test
+    @DisplayName("inOrderTraversal visits random elements in the same order as TreeSet")
+    void inOrderTraversalMatchesTreeSet() {
+        var expected = new TreeSet<Integer>();
+        var random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(5_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        var traversed = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(traversed).containsExactlyElementsOf(expected);
+        assertThat(tree.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("rank and select are consistent with the order of elements")
+    void rankAndSelect() {
+        tree = AvlBinarySearchTree.of(50, 20, 80, 10, 30, 70, 90);
+
+        assertThat(tree.rank(10)).isZero();
+        assertThat(tree.rank(50)).isEqualTo(3);
+        assertThat(tree.rank(55)).isEqualTo(4);
+        assertThat(tree.rank(100)).isEqualTo(7);
+        assertThat(tree.select(0)).isEqualTo(10);
+        assertThat(tree.select(3)).isEqualTo(50);
+        assertThat(tree.select(6)).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("select throws exception when index is out of bounds")
+    void selectOutOfBounds() {
+        tree = AvlBinarySearchTree.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(-1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(3));
+        assertThatNullPointerException().isThrownBy(() -> tree.rank(null));
+    }
+
+    @Test
+    @DisplayName("rank and select match TreeSet after rotations of random elements")
+    void rankAndSelectMatchTreeSet() {
+        var expected = new TreeSet<Integer>();
+        var random = new Random(14);
+        for (int i = 0; i < 5_000; i++) {
+            int element = random.nextInt(10_000);
+            tree.insert(element);
+            expected.add(element);
+        }
+
+        int index = 0;
+        for (int element : expected) {
+            assertThat(tree.select(index)).isEqualTo(element);
+            assertThat(tree.rank(element)).isEqualTo(index);
+            index++;
+        }
+        for (int i = 0; i < 1_000; i++) {
+            int element = random.nextInt(10_200) - 100;
+            assertThat(tree.rank(element)).isEqualTo(expected.headSet(element).size());
+        }
+    }
+}
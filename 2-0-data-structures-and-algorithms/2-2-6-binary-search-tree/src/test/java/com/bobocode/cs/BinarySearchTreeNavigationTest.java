@@ -0,0 +1,120 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("BinarySearchTree navigation Test")
+class BinarySearchTreeNavigationTest {
+
+    static Stream<Arguments> trees() {
+        return Stream.of(
+                Arguments.of("RecursiveBinarySearchTree",
+                        (Supplier<BinarySearchTree<Integer>>) RecursiveBinarySearchTree::new),
+                Arguments.of("IterativeBinarySearchTree",
+                        (Supplier<BinarySearchTree<Integer>>) IterativeBinarySearchTree::new),
+                Arguments.of("AvlBinarySearchTree",
+                        (Supplier<BinarySearchTree<Integer>>) AvlBinarySearchTree::new),
+                Arguments.of("EytzingerBinarySearchTree",
+                        (Supplier<BinarySearchTree<Integer>>) EytzingerBinarySearchTree::new)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    @DisplayName("floor and ceiling return null for an empty tree")
+    void floorAndCeilingOfEmptyTree(String name, Supplier<BinarySearchTree<Integer>> treeSupplier) {
+        var tree = treeSupplier.get();
+
+        assertThat(tree.floor(1)).isNull();
+        assertThat(tree.ceiling(1)).isNull();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    @DisplayName("floor and ceiling find the closest elements")
+    void floorAndCeiling(String name, Supplier<BinarySearchTree<Integer>> treeSupplier) {
+        var tree = fill(treeSupplier.get(), 20, 10, 30, 5, 15, 25, 35);
+
+        assertThat(tree.floor(15)).isEqualTo(15);
+        assertThat(tree.floor(19)).isEqualTo(15);
+        assertThat(tree.floor(4)).isNull();
+        assertThat(tree.floor(100)).isEqualTo(35);
+        assertThat(tree.ceiling(25)).isEqualTo(25);
+        assertThat(tree.ceiling(21)).isEqualTo(25);
+        assertThat(tree.ceiling(36)).isNull();
+        assertThat(tree.ceiling(0)).isEqualTo(5);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    @DisplayName("rangeTraversal visits only elements within inclusive bounds")
+    void rangeTraversal(String name, Supplier<BinarySearchTree<Integer>> treeSupplier) {
+        var tree = fill(treeSupplier.get(), 20, 10, 30, 5, 15, 25, 35);
+
+        var traversed = new ArrayList<Integer>();
+        tree.rangeTraversal(10, 25, traversed::add);
+
+        assertThat(traversed).containsExactly(10, 15, 20, 25);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    @DisplayName("rangeTraversal throws exception when bounds are invalid")
+    void invalidRange(String name, Supplier<BinarySearchTree<Integer>> treeSupplier) {
+        var tree = fill(treeSupplier.get(), 1, 2, 3);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(3, 1, element -> {
+        }));
+        assertThatNullPointerException().isThrownBy(() -> tree.rangeTraversal(null, 1, element -> {
+        }));
+        assertThatNullPointerException().isThrownBy(() -> tree.rangeTraversal(1, null, element -> {
+        }));
+        assertThatNullPointerException().isThrownBy(() -> tree.floor(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.ceiling(null));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    @DisplayName("floor, ceiling and rangeTraversal match TreeSet for random elements")
+    void matchesTreeSet(String name, Supplier<BinarySearchTree<Integer>> treeSupplier) {
+        var random = new Random(14);
+        var tree = treeSupplier.get();
+        var expected = new TreeSet<Integer>();
+        for (int i = 0; i < 2_000; i++) {
+            int element = random.nextInt(4_000);
+            tree.insert(element);
+            expected.add(element);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            int element = random.nextInt(4_200) - 100;
+            assertThat(tree.floor(element)).isEqualTo(expected.floor(element));
+            assertThat(tree.ceiling(element)).isEqualTo(expected.ceiling(element));
+
+            int to = element + random.nextInt(300);
+            var traversed = new ArrayList<Integer>();
+            tree.rangeTraversal(element, to, traversed::add);
+            assertThat(traversed).containsExactlyElementsOf(expected.subSet(element, true, to, true));
+        }
+    }
+
+    @SafeVarargs
+    private static <T extends Comparable<T>> BinarySearchTree<T> fill(BinarySearchTree<T> tree, T... elements) {
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+}
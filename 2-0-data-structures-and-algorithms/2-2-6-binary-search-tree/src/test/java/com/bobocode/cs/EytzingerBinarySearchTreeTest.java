@@ -0,0 +1,157 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("EytzingerBinarySearchTree Test")
+class EytzingerBinarySearchTreeTest {
+
+    @Test
+    @DisplayName("empty tree contains nothing")
+    void emptyTree() {
+        var tree = new EytzingerBinarySearchTree<Integer>(List.of());
+        var traversed = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(tree.size()).isZero();
+        assertThat(tree.depth()).isZero();
+        assertThat(tree.contains(1)).isFalse();
+        assertThat(tree.floor(1)).isNull();
+        assertThat(tree.ceiling(1)).isNull();
+        assertThat(traversed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("of sorts elements and removes duplicates")
+    void of() {
+        var tree = EytzingerBinarySearchTree.of(5, 3, 8, 3, 1, 5);
+        var traversed = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(traversed).containsExactly(1, 3, 5, 8);
+        assertThat(tree.contains(8)).isTrue();
+        assertThat(tree.contains(4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("bulk load throws exception when elements are not sorted or not unique")
+    void unsortedElements() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new EytzingerBinarySearchTree<>(List.of(1, 3, 2)));
+        assertThatIllegalArgumentException().isThrownBy(() -> new EytzingerBinarySearchTree<>(List.of(1, 2, 2)));
+    }
+
+    @Test
+    @DisplayName("null elements are rejected")
+    void nulls() {
+        var tree = EytzingerBinarySearchTree.of(1, 2, 3);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+        assertThatNullPointerException().isThrownBy(() -> EytzingerBinarySearchTree.of(1, null));
+    }
+
+    @Test
+    @DisplayName("inserted elements are merged into the tree on the next query")
+    void insertBeforeQuery() {
+        var tree = EytzingerBinarySearchTree.of(10, 20, 30);
+
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(25)).isTrue();
+        assertThat(tree.insert(40)).isTrue();
+        assertThat(tree.insert(20)).isFalse();
+        assertThat(tree.insert(25)).isFalse();
+        assertThat(tree.size()).isEqualTo(6);
+
+        var traversed = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversed::add);
+        assertThat(traversed).containsExactly(5, 10, 20, 25, 30, 40);
+        assertThat(tree.depth()).isEqualTo(2);
+        assertThat(tree.insert(15)).isTrue();
+        assertThat(tree.contains(15)).isTrue();
+        assertThat(tree.ceiling(11)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("random inserts interleaved with queries give the same result as TreeSet")
+    void randomInsertsMatchTreeSet() {
+        var random = new Random(15);
+        var tree = new EytzingerBinarySearchTree<Integer>();
+        var expected = new TreeSet<Integer>();
+
+        for (int batch = 0; batch < 50; batch++) {
+            for (int i = random.nextInt(100); i > 0; i--) {
+                int element = random.nextInt(10_000);
+                assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+            }
+            tree.freeze();
+            assertThat(tree.size()).isEqualTo(expected.size());
+            int element = random.nextInt(10_000);
+            assertThat(tree.contains(element)).isEqualTo(expected.contains(element));
+            assertThat(tree.floor(element)).isEqualTo(expected.floor(element));
+        }
+        var traversed = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversed::add);
+        assertThat(traversed).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("depth of a complete tree is logarithmic")
+    void depth() {
+        assertThat(EytzingerBinarySearchTree.of(1).depth()).isZero();
+        assertThat(EytzingerBinarySearchTree.of(1, 2, 3).depth()).isEqualTo(1);
+        assertThat(EytzingerBinarySearchTree.of(1, 2, 3, 4).depth()).isEqualTo(2);
+        assertThat(EytzingerBinarySearchTree.of(1, 2, 3, 4, 5, 6, 7).depth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("all operations match TreeSet for every size up to 130")
+    void matchesTreeSetForSmallSizes() {
+        for (int size = 0; size <= 130; size++) {
+            var expected = IntStream.range(0, size).map(i -> 2 * i).boxed()
+                    .collect(Collectors.toCollection(TreeSet::new));
+            var tree = new EytzingerBinarySearchTree<>(expected);
+
+            var traversed = new ArrayList<Integer>();
+            tree.inOrderTraversal(traversed::add);
+            assertThat(traversed).containsExactlyElementsOf(expected);
+            for (int element = -1; element <= 2 * size; element++) {
+                assertThat(tree.contains(element)).isEqualTo(expected.contains(element));
+                assertThat(tree.floor(element)).isEqualTo(expected.floor(element));
+                assertThat(tree.ceiling(element)).isEqualTo(expected.ceiling(element));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("rangeTraversal matches TreeSet for random elements")
+    void rangeTraversalMatchesTreeSet() {
+        var random = new Random(15);
+        var expected = new TreeSet<Integer>();
+        while (expected.size() < 10_000) {
+            expected.add(random.nextInt(100_000));
+        }
+        var tree = new EytzingerBinarySearchTree<>(expected);
+
+        for (int i = 0; i < 500; i++) {
+            int from = random.nextInt(100_000);
+            int to = from + random.nextInt(1_000);
+            var traversed = new ArrayList<Integer>();
+            tree.rangeTraversal(from, to, traversed::add);
+            assertThat(traversed).containsExactlyElementsOf(expected.subSet(from, true, to, true));
+        }
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(2, 1, element -> {
+        }));
+    }
+}
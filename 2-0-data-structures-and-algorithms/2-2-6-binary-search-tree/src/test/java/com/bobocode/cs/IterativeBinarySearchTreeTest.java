@@ -0,0 +1,99 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@DisplayName("IterativeBinarySearchTree Test")
+class IterativeBinarySearchTreeTest {
+
+    private IterativeBinarySearchTree<Integer> tree = new IterativeBinarySearchTree<>();
+
+    @Test
+    @DisplayName("insert adds only unique elements and contains finds them")
+    void insertAndContains() {
+        tree = IterativeBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(13)).isTrue();
+        assertThat(tree.size()).isEqualTo(7);
+        assertThat(tree.contains(7)).isTrue();
+        assertThat(tree.contains(100)).isFalse();
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.bobocode.cs.RecursiveBinarySearchTreeTest#depthArguments")
+    @DisplayName("depth has the same semantics as in RecursiveBinarySearchTree")
+    void depth(Integer[] elements, int depth) {
+        tree = IterativeBinarySearchTree.of(elements);
+
+        assertThat(tree.depth()).isEqualTo(depth);
+    }
+
+    @Test
+    @DisplayName("depth, traversal and size match RecursiveBinarySearchTree for random elements")
+    void matchesRecursiveTree() {
+        var random = new Random(13);
+        for (int attempt = 0; attempt < 50; attempt++) {
+            var recursiveTree = new RecursiveBinarySearchTree<Integer>();
+            tree = new IterativeBinarySearchTree<>();
+            for (int i = 0; i < 500; i++) {
+                int element = random.nextInt(1_000);
+                assertThat(tree.insert(element)).isEqualTo(recursiveTree.insert(element));
+            }
+
+            var expected = new ArrayList<Integer>();
+            recursiveTree.inOrderTraversal(expected::add);
+            var traversed = new ArrayList<Integer>();
+            tree.inOrderTraversal(traversed::add);
+
+            assertThat(traversed).isEqualTo(expected);
+            assertThat(tree.depth()).isEqualTo(recursiveTree.depth());
+            assertThat(tree.size()).isEqualTo(recursiveTree.size());
+        }
+    }
+
+    @Test
+    @DisplayName("a degenerate tree of sorted elements does not overflow the stack")
+    void deepTree() {
+        int count = 50_000;
+        for (int i = 0; i < count; i++) {
+            tree.insert(i);
+        }
+
+        var sum = new long[1];
+        tree.inOrderTraversal(element -> sum[0] += element);
+
+        assertThat(tree.depth()).isEqualTo(count - 1);
+        assertThat(tree.contains(count - 1)).isTrue();
+        assertThat(sum[0]).isEqualTo((long) count * (count - 1) / 2);
+    }
+
+    @Test
+    @DisplayName("inOrderTraversal restores the tree when the consumer throws exception")
+    void traversalFailure() {
+        tree = IterativeBinarySearchTree.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+        int depth = tree.depth();
+
+        assertThatIllegalStateException().isThrownBy(() -> tree.inOrderTraversal(element -> {
+            if (element == 4) {
+                throw new IllegalStateException();
+            }
+        }));
+
+        var traversed = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversed::add);
+        assertThat(traversed).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(tree.depth()).isEqualTo(depth);
+    }
+}
@@ -0,0 +1,402 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ConcurrentHashTable} is a thread-safe implementation of {@link Map} interface. Like {@link HashTable}, it is
+ * based on the array of linked nodes, but it never locks the whole table:
+ * <ul>
+ *     <li>reads (get, containsKey, containsValue) do not take any locks, they rely on volatile reads of array
+ *     elements, node values and next references;</li>
+ *     <li>a put into an empty bucket is done with a single CAS, other writes lock only the head node of the bucket;</li>
+ *     <li>the size is tracked with a {@link LongAdder}, so writers do not contend on a single counter.</li>
+ * </ul>
+ * <p>
+ * Resize is cooperative. Once the table is three quarters full, a new array is allocated and buckets are moved in
+ * chunks. Every moved bucket is replaced with a forwarding node that points readers and writers to the new array.
+ * A writer that runs into a forwarding node claims the next chunk of buckets and helps to finish the transfer instead
+ * of waiting for it. The capacity of the table is always a power of two.
+ * <p>
+ * Neither null keys nor null values are supported, since null is used as "no mapping" result.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ConcurrentHashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float RESIZE_THRESHOLD = 0.75f;
+    private static final int TRANSFER_STRIDE = 16;
+
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private final AtomicBoolean resizing = new AtomicBoolean();
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table with a given initial capacity. The capacity is rounded up to the nearest power of two.
+     *
+     * @param initialCapacity initial array size
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ConcurrentHashTable(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        this.table = new AtomicReferenceArray<>(tableSizeFor(initialCapacity));
+    }
+
+    static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A special node that replaces a bucket that was already moved to the new array during resize.
+     */
+    static class ForwardingNode<K, V> extends Node<K, V> {
+        final Transfer<K, V> transfer;
+
+        ForwardingNode(Transfer<K, V> transfer) {
+            super(-1, null, null);
+            this.transfer = transfer;
+        }
+    }
+
+    /**
+     * A state of a single resize. Buckets of the source array are claimed in chunks by decrementing
+     * {@link Transfer#nextIndex}, so any number of threads can move them in parallel.
+     */
+    static class Transfer<K, V> {
+        final AtomicReferenceArray<Node<K, V>> source;
+        final AtomicReferenceArray<Node<K, V>> target;
+        final ForwardingNode<K, V> forwardingNode;
+        final AtomicInteger nextIndex;
+        final AtomicInteger movedBuckets = new AtomicInteger();
+
+        Transfer(AtomicReferenceArray<Node<K, V>> source, int newCapacity) {
+            this.source = source;
+            this.target = new AtomicReferenceArray<>(newCapacity);
+            this.forwardingNode = new ForwardingNode<>(this);
+            this.nextIndex = new AtomicInteger(source.length());
+        }
+    }
+
+    static int hash(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates or updates a mapping. An empty bucket is filled using CAS, otherwise the head node of the bucket is
+     * locked.
+     *
+     * @param key
+     * @param value
+     * @return old value or null
+     * @throws NullPointerException if the key or the value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        var tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            var head = tab.get(index);
+            if (head == null) {
+                if (tab.compareAndSet(index, null, new Node<>(hash, key, value))) {
+                    break;
+                }
+            } else if (head instanceof ForwardingNode<K, V> forwardingNode) {
+                tab = helpTransfer(forwardingNode.transfer);
+            } else {
+                synchronized (head) {
+                    if (tab.get(index) == head) {
+                        var current = head;
+                        while (true) {
+                            if (current.hash == hash && current.key.equals(key)) {
+                                V oldValue = current.value;
+                                current.value = value;
+                                return oldValue;
+                            }
+                            if (current.next == null) {
+                                current.next = new Node<>(hash, key, value);
+                                break;
+                            }
+                            current = current.next;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        size.increment();
+        if (size.sum() >= tab.length() * RESIZE_THRESHOLD) {
+            startTransfer(tab, tab.length() << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a value without any locking. If the bucket was already moved, the lookup follows the forwarding node
+     * to the new array.
+     *
+     * @param key
+     * @return value or null
+     */
+    @Override
+    public V get(K key) {
+        var node = findNode(key);
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findNode(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        var tab = table;
+        for (int i = 0; i < tab.length(); i++) {
+            if (bucketContainsValue(tab, i, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of entries. The result is exact when there are no concurrent modifications, and it's an
+     * estimate otherwise.
+     *
+     * @return the number of entries
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size.sum() <= 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        Objects.requireNonNull(key);
+        int hash = hash(key);
+        var tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            var head = tab.get(index);
+            if (head == null) {
+                return null;
+            } else if (head instanceof ForwardingNode<K, V> forwardingNode) {
+                tab = helpTransfer(forwardingNode.transfer);
+            } else {
+                synchronized (head) {
+                    if (tab.get(index) == head) {
+                        Node<K, V> previous = null;
+                        for (var current = head; current != null; previous = current, current = current.next) {
+                            if (current.hash == hash && current.key.equals(key)) {
+                                if (previous == null) {
+                                    tab.set(index, current.next);
+                                } else {
+                                    previous.next = current.next;
+                                }
+                                size.decrement();
+                                return current.value;
+                            }
+                        }
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new underlying array with a given capacity (rounded up to the nearest power of two) and moves all
+     * buckets there. If another resize is in progress, the calling thread helps to finish it first. Other threads
+     * that run into already moved buckets help with this transfer too.
+     *
+     * @param newCapacity a size of the new underlying array
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public void resizeTable(int newCapacity) {
+        if (newCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        while (!startTransfer(table, tableSizeFor(newCapacity))) {
+            var head = findForwardingNode(table);
+            if (head != null) {
+                helpTransfer(head.transfer);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the underlying array.
+     *
+     * @return table capacity
+     */
+    public int capacity() {
+        return table.length();
+    }
+
+    private Node<K, V> findNode(K key) {
+        int hash = hash(key);
+        var tab = table;
+        while (true) {
+            var current = tab.get(hash & (tab.length() - 1));
+            if (current instanceof ForwardingNode<K, V> forwardingNode) {
+                tab = forwardingNode.transfer.target;
+                continue;
+            }
+            while (current != null && !(current.hash == hash && current.key.equals(key))) {
+                current = current.next;
+            }
+            return current;
+        }
+    }
+
+    private boolean bucketContainsValue(AtomicReferenceArray<Node<K, V>> tab, int index, V value) {
+        var head = tab.get(index);
+        if (head instanceof ForwardingNode<K, V> forwardingNode) {
+            var target = forwardingNode.transfer.target;
+            if (target.length() < tab.length()) {
+                // the table shrinks, so the bucket is merged with others into a single bucket of the new array
+                return bucketContainsValue(target, index & (target.length() - 1), value);
+            }
+            // the table grows, so the bucket is split between the buckets of the new array with the same low bits
+            for (int i = index; i < target.length(); i += tab.length()) {
+                if (bucketContainsValue(target, i, value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (var current = head; current != null; current = current.next) {
+            if (Objects.equals(current.value, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean startTransfer(AtomicReferenceArray<Node<K, V>> tab, int newCapacity) {
+        if (!resizing.compareAndSet(false, true)) {
+            return false;
+        }
+        if (table != tab) {
+            resizing.set(false);
+            return false;
+        }
+        transfer(new Transfer<>(tab, newCapacity));
+        return true;
+    }
+
+    /**
+     * Claims chunks of buckets and moves them until there is nothing left to claim. The thread that moves the last
+     * bucket publishes the new array.
+     *
+     * @return the new array
+     */
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(Transfer<K, V> transfer) {
+        transfer(transfer);
+        return transfer.target;
+    }
+
+    private void transfer(Transfer<K, V> transfer) {
+        int length = transfer.source.length();
+        int end;
+        while ((end = transfer.nextIndex.get()) > 0) {
+            int start = Math.max(0, end - TRANSFER_STRIDE);
+            if (transfer.nextIndex.compareAndSet(end, start)) {
+                for (int i = start; i < end; i++) {
+                    moveBucket(transfer, i);
+                }
+                if (transfer.movedBuckets.addAndGet(end - start) == length) {
+                    table = transfer.target;
+                    resizing.set(false);
+                }
+            }
+        }
+    }
+
+    private void moveBucket(Transfer<K, V> transfer, int index) {
+        var source = transfer.source;
+        while (true) {
+            var head = source.get(index);
+            if (head == null) {
+                if (source.compareAndSet(index, null, transfer.forwardingNode)) {
+                    return;
+                }
+            } else {
+                synchronized (head) {
+                    if (source.get(index) == head) {
+                        // nodes are copied, so readers that are walking the old bucket are not affected
+                        for (var current = head; current != null; current = current.next) {
+                            addToTarget(transfer.target, new Node<>(current.hash, current.key, current.value));
+                        }
+                        source.set(index, transfer.forwardingNode);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToTarget(AtomicReferenceArray<Node<K, V>> target, Node<K, V> node) {
+        int index = node.hash & (target.length() - 1);
+        while (true) {
+            var head = target.get(index);
+            if (head == null) {
+                if (target.compareAndSet(index, null, node)) {
+                    return;
+                }
+            } else {
+                synchronized (head) {
+                    if (target.get(index) == head) {
+                        node.next = head;
+                        target.set(index, node);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private ForwardingNode<K, V> findForwardingNode(AtomicReferenceArray<Node<K, V>> tab) {
+        for (int i = 0; i < tab.length(); i++) {
+            if (tab.get(i) instanceof ForwardingNode<K, V> forwardingNode) {
+                return forwardingNode;
+            }
+        }
+        return null;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int highestBit = Integer.highestOneBit(capacity);
+        return highestBit == capacity ? capacity : highestBit << 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bobocode.cs;
+
+/**
+ * {@link HashSpreader} is a strategy that mixes the bits of a key hash code before it is turned into an array index.
+ * Keys with poor hash codes (e.g. sequential ids that are multiples of a table size, or strings with a common prefix)
+ * produce values that differ only in a few bits, and end up in a few buckets. A spreader distributes those differences
+ * across all bits, so the remainder of division by the table capacity is distributed evenly.
+ * <p>
+ * {@link HashSpreader#IDENTITY} is used by default, so a table without a spreader behaves exactly as before.
+ */
+@FunctionalInterface
+public interface HashSpreader {
+
+    /**
+     * Uses the hash code as is.
+     */
+    HashSpreader IDENTITY = hashCode -> hashCode;
+
+    /**
+     * Multiplicative (Fibonacci) hashing. The hash code is multiplied by 2^32 / golden ratio, and the well-mixed higher
+     * bits of the product are folded into the lower ones.
+     */
+    HashSpreader FIBONACCI = hashCode -> {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    };
+
+    /**
+     * Creates a seeded spreader based on the MurmurHash3 32-bit finalizer. Using a random seed per table makes it hard
+     * to prepare a set of keys that collide on purpose.
+     *
+     * @param seed a seed that is mixed into every hash code
+     * @return seeded murmur-style spreader
+     */
+    static HashSpreader murmur(int seed) {
+        return hashCode -> {
+            int h = hashCode ^ seed;
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            h *= 0xC2B2AE35;
+            h ^= h >>> 16;
+            return h;
+        };
+    }
+
+    /**
+     * Mixes the bits of a given hash code.
+     *
+     * @param hashCode key hash code
+     * @return spread hash code
+     */
+    int spread(int hashCode);
+}
@@ -1,6 +1,6 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.util.Objects;
 
 /**
  * {@link HashTable} is a simple Hashtable-based implementation of {@link Map} interface with some additional methods.
@@ -18,6 +18,19 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * calling method resizeTable, or it will be done automatically once the table reach resize threshold.
  * <p>
  * The initial array size (initial capacity) is 8.
+ * <p>
+ * By default, the automatic resize rehashes the whole table at once, so a single put that reaches the threshold takes
+ * time proportional to the table size. A table created with {@code incrementalResize} enabled keeps the old and the new
+ * arrays side by side instead, and moves a bounded number of buckets on each put, get and remove until the migration
+ * is done. While the migration is in flight, lookups check both arrays, so all operations stay correct.
+ * <p>
+ * Keys with poor hash codes can be distributed better using a {@link HashSpreader}, that mixes hash code bits before
+ * an index is calculated. If a bucket still grows longer than {@link HashTable#TREEIFY_THRESHOLD} and all its keys are
+ * {@link Comparable} instances of the same class, the bucket is turned into a balanced (AVL) tree of
+ * {@link TreeNode} objects ordered by hash code and then by {@link Comparable#compareTo(Object)}, so the worst-case
+ * lookup takes O(log n) instead of O(n). Keys are still matched using equals, so keys which {@code compareTo} is
+ * inconsistent with equals are supported, at the cost of searching both subtrees. Tree nodes are still linked using "next" references, with the tree root
+ * always being the first one, so the bucket can be iterated as a regular list.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -27,6 +40,273 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * @author Taras Boychuk
  */
 public class HashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float RESIZE_THRESHOLD = 0.75f;
+    private static final int MIGRATION_STEP = 2;
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    private Node<K, V>[] table;
+    private int size;
+
+    private final boolean incrementalResize;
+    private final HashSpreader hashSpreader;
+    private Node<K, V>[] oldTable;
+    private int migrationIndex;
+
+    public HashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table with a given initial capacity, that is resized eagerly.
+     *
+     * @param initialCapacity initial array size
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public HashTable(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Creates a table with a given initial capacity and a resize mode. When {@code incrementalResize} is true,
+     * the automatic resize does not rehash the whole table at once. Instead, it moves {@link HashTable#MIGRATION_STEP}
+     * buckets of the old array on each put, get and remove, so there is no latency spike on the put that reaches
+     * the threshold.
+     *
+     * @param initialCapacity   initial array size
+     * @param incrementalResize true to spread the rehashing over the following operations
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public HashTable(int initialCapacity, boolean incrementalResize) {
+        this(initialCapacity, incrementalResize, HashSpreader.IDENTITY);
+    }
+
+    /**
+     * Creates a table with a given initial capacity, resize mode and a strategy that spreads key hash codes before
+     * the index is calculated.
+     *
+     * @param initialCapacity   initial array size
+     * @param incrementalResize true to spread the rehashing over the following operations
+     * @param hashSpreader      hash spreading strategy
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public HashTable(int initialCapacity, boolean incrementalResize, HashSpreader hashSpreader) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        this.table = new Node[initialCapacity];
+        this.incrementalResize = incrementalResize;
+        this.hashSpreader = Objects.requireNonNull(hashSpreader);
+    }
+
+    static class Node<K, V> {
+        K key;
+        V value;
+        Node<K, V> next;
+
+        public Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A node of a treeified bucket. Besides the "next" reference it keeps "prev" reference, so any node can be
+     * unlinked in constant time, and "left" and "right" references of the AVL tree.
+     */
+    static class TreeNode<K, V> extends Node<K, V> {
+        final int hash;
+        TreeNode<K, V> prev;
+        TreeNode<K, V> left;
+        TreeNode<K, V> right;
+        int height = 1;
+
+        TreeNode(K key, V value) {
+            super(key, value);
+            this.hash = key.hashCode();
+        }
+
+        boolean accepts(Object key) {
+            return key != null && key.getClass() == this.key.getClass();
+        }
+
+        /**
+         * Searches the tree that starts with this node. If a given key is not comparable with the tree keys, it falls
+         * back to a linear scan of the bucket. Keys are matched using equals, so if {@code compareTo} returns 0 for
+         * different keys, both subtrees are searched.
+         */
+        TreeNode<K, V> find(Object key) {
+            if (!accepts(key)) {
+                for (Node<K, V> current = this; current != null; current = current.next) {
+                    if (Objects.equals(current.key, key)) {
+                        return (TreeNode<K, V>) current;
+                    }
+                }
+                return null;
+            }
+            return find(this, key.hashCode(), key);
+        }
+
+        private static <K, V> TreeNode<K, V> find(TreeNode<K, V> root, int hash, Object key) {
+            var current = root;
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    return current;
+                }
+                int result = compare(hash, key, current);
+                if (result == 0) {
+                    var node = find(current.right, hash, key);
+                    if (node != null) {
+                        return node;
+                    }
+                    current = current.left;
+                } else {
+                    current = result < 0 ? current.left : current.right;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Checks whether a given node is in the tree. Unlike {@link TreeNode#find(Object)}, it matches the node itself,
+         * so it also finds a node whose key is not equal to itself.
+         */
+        private static boolean contains(TreeNode<?, ?> root, TreeNode<?, ?> node) {
+            var current = root;
+            while (current != null) {
+                if (current == node) {
+                    return true;
+                }
+                int result = compare(node.hash, node.key, current);
+                if (result == 0) {
+                    if (contains(current.right, node)) {
+                        return true;
+                    }
+                    current = current.left;
+                } else {
+                    current = result < 0 ? current.left : current.right;
+                }
+            }
+            return false;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static int compare(int hash, Object key, TreeNode<?, ?> node) {
+            int result = Integer.compare(hash, node.hash);
+            return result != 0 ? result : ((Comparable) key).compareTo(node.key);
+        }
+
+        /**
+         * Orders different keys, for which {@link TreeNode#compare(int, Object, TreeNode)} returns 0, so the insert
+         * always picks a side. The order does not need to be consistent, since the lookup searches both subtrees
+         * in this case.
+         */
+        static int tieBreakOrder(Object key, Object other) {
+            int result = key.getClass().getName().compareTo(other.getClass().getName());
+            if (result == 0) {
+                result = System.identityHashCode(key) <= System.identityHashCode(other) ? -1 : 1;
+            }
+            return result;
+        }
+
+        static <K, V> TreeNode<K, V> insert(TreeNode<K, V> root, TreeNode<K, V> node) {
+            if (root == null) {
+                return node;
+            }
+            int result = compare(node.hash, node.key, root);
+            if (result == 0) {
+                result = tieBreakOrder(node.key, root.key);
+            }
+            if (result < 0) {
+                root.left = insert(root.left, node);
+            } else {
+                root.right = insert(root.right, node);
+            }
+            return balance(root);
+        }
+
+        static <K, V> TreeNode<K, V> delete(TreeNode<K, V> root, TreeNode<K, V> node) {
+            if (root == node) {
+                if (root.left == null) {
+                    return root.right;
+                }
+                if (root.right == null) {
+                    return root.left;
+                }
+                var successor = root.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                successor.right = deleteMin(root.right);
+                successor.left = root.left;
+                return balance(successor);
+            }
+            int result = compare(node.hash, node.key, root);
+            if (result == 0) {
+                result = contains(root.left, node) ? -1 : 1;
+            }
+            if (result < 0) {
+                root.left = delete(root.left, node);
+            } else {
+                root.right = delete(root.right, node);
+            }
+            return balance(root);
+        }
+
+        private static <K, V> TreeNode<K, V> deleteMin(TreeNode<K, V> root) {
+            if (root.left == null) {
+                return root.right;
+            }
+            root.left = deleteMin(root.left);
+            return balance(root);
+        }
+
+        private static <K, V> TreeNode<K, V> balance(TreeNode<K, V> node) {
+            updateHeight(node);
+            int balanceFactor = height(node.left) - height(node.right);
+            if (balanceFactor > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balanceFactor < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private static <K, V> TreeNode<K, V> rotateLeft(TreeNode<K, V> node) {
+            var newRoot = node.right;
+            node.right = newRoot.left;
+            newRoot.left = node;
+            updateHeight(node);
+            updateHeight(newRoot);
+            return newRoot;
+        }
+
+        private static <K, V> TreeNode<K, V> rotateRight(TreeNode<K, V> node) {
+            var newRoot = node.left;
+            node.left = newRoot.right;
+            newRoot.right = node;
+            updateHeight(node);
+            updateHeight(newRoot);
+            return newRoot;
+        }
+
+        private static void updateHeight(TreeNode<?, ?> node) {
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+        }
+
+        private static int height(TreeNode<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
 
     /**
      * This method is a critical part of the hast table. The main idea is that having a key, you can calculate its index
@@ -43,7 +323,20 @@ public class HashTable<K, V> implements Map<K, V> {
      * @return array index of the given key
      */
     public static int calculateIndex(Object key, int tableCapacity) {
-        throw new ExerciseNotCompletedException(); // todo:
+        return calculateIndex(key, tableCapacity, HashSpreader.IDENTITY);
+    }
+
+    /**
+     * Calculates an index of the given key the same way as {@link HashTable#calculateIndex(Object, int)}, but mixes
+     * the key hash code using a given {@link HashSpreader} first.
+     *
+     * @param key
+     * @param tableCapacity underlying array size
+     * @param hashSpreader  hash spreading strategy
+     * @return array index of the given key
+     */
+    public static int calculateIndex(Object key, int tableCapacity, HashSpreader hashSpreader) {
+        return Math.abs(hashSpreader.spread(key.hashCode()) % tableCapacity);
     }
 
     /**
@@ -59,7 +352,19 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public V put(K key, V value) {
-        throw new ExerciseNotCompletedException(); // todo:
+        migrateStep();
+        var node = findNode(key);
+        if (node != null) {
+            V oldValue = node.value;
+            node.value = value;
+            return oldValue;
+        }
+        addNode(table, new Node<>(key, value));
+        size++;
+        if (size > table.length * RESIZE_THRESHOLD) {
+            growTable();
+        }
+        return null;
     }
 
     /**
@@ -71,7 +376,9 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public V get(K key) {
-        throw new ExerciseNotCompletedException(); // todo:
+        migrateStep();
+        var node = findNode(key);
+        return node != null ? node.value : null;
     }
 
     /**
@@ -82,7 +389,8 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public boolean containsKey(K key) {
-        throw new ExerciseNotCompletedException(); // todo:
+        migrateStep();
+        return findNode(key) != null;
     }
 
     /**
@@ -93,7 +401,7 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public boolean containsValue(V value) {
-        throw new ExerciseNotCompletedException(); // todo:
+        return containsValue(table, value) || (oldTable != null && containsValue(oldTable, value));
     }
 
     /**
@@ -103,7 +411,7 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo:
+        return size;
     }
 
     /**
@@ -113,7 +421,7 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo:
+        return size == 0;
     }
 
     /**
@@ -124,7 +432,12 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public V remove(K key) {
-        throw new ExerciseNotCompletedException(); // todo:
+        migrateStep();
+        V removedValue = removeNode(table, key);
+        if (removedValue == null && oldTable != null) {
+            removedValue = removeNode(oldTable, key);
+        }
+        return removedValue;
     }
 
     /**
@@ -145,12 +458,33 @@ public class HashTable<K, V> implements Map<K, V> {
      * 6:
      * 7:
      * </pre>
+     * While an incremental resize is in flight, the new array is printed first, followed by a line
+     * {@code "migrating from:"} and the old array with the buckets that are not moved yet. The migration is not advanced.
      *
      * @return
      */
     @Override
     public String toString() {
-        throw new ExerciseNotCompletedException(); // todo:
+        var result = new StringBuilder();
+        appendTable(result, table);
+        if (oldTable != null) {
+            result.append("migrating from:\n");
+            appendTable(result, oldTable);
+        }
+        return result.toString();
+    }
+
+    private static void appendTable(StringBuilder result, Node<?, ?>[] table) {
+        for (int i = 0; i < table.length; i++) {
+            result.append(i).append(": ");
+            for (var current = table[i]; current != null; current = current.next) {
+                result.append(current.key).append("=").append(current.value);
+                if (current.next != null) {
+                    result.append(" -> ");
+                }
+            }
+            result.append("\n");
+        }
     }
 
     /**
@@ -167,6 +501,228 @@ public class HashTable<K, V> implements Map<K, V> {
      * @param newCapacity a size of the new underlying array
      */
     public void resizeTable(int newCapacity) {
-        throw new ExerciseNotCompletedException(); // todo:
+        completeMigration();
+        var newTable = createTable(newCapacity);
+        transfer(table, newTable);
+        table = newTable;
+    }
+
+    private Node<K, V> findNode(K key) {
+        var node = findNode(table, key);
+        if (node == null && oldTable != null) {
+            node = findNode(oldTable, key);
+        }
+        return node;
+    }
+
+    private Node<K, V> findNode(Node<K, V>[] array, K key) {
+        var current = array[calculateIndex(key, array.length, hashSpreader)];
+        if (current instanceof TreeNode<K, V> root) {
+            return root.find(key);
+        }
+        while (current != null && !Objects.equals(current.key, key)) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    private V removeNode(Node<K, V>[] array, K key) {
+        int index = calculateIndex(key, array.length, hashSpreader);
+        if (array[index] instanceof TreeNode<K, V> root) {
+            return removeTreeNode(array, index, root, key);
+        }
+        Node<K, V> previous = null;
+        for (var current = array[index]; current != null; previous = current, current = current.next) {
+            if (Objects.equals(current.key, key)) {
+                if (previous == null) {
+                    array[index] = current.next;
+                } else {
+                    previous.next = current.next;
+                }
+                size--;
+                return current.value;
+            }
+        }
+        return null;
+    }
+
+    private boolean containsValue(Node<K, V>[] array, V value) {
+        for (var head : array) {
+            for (var current = head; current != null; current = current.next) {
+                if (Objects.equals(current.value, value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addNode(Node<K, V>[] array, Node<K, V> newNode) {
+        int index = calculateIndex(newNode.key, array.length, hashSpreader);
+        if (array[index] instanceof TreeNode<K, V> root) {
+            if (root.accepts(newNode.key)) {
+                addTreeNode(array, index, root, new TreeNode<>(newNode.key, newNode.value));
+                return;
+            }
+            untreeify(array, index);
+        }
+        newNode.next = array[index];
+        array[index] = newNode;
+        if (countNodes(newNode, TREEIFY_THRESHOLD) >= TREEIFY_THRESHOLD) {
+            treeify(array, index);
+        }
+    }
+
+    private void addTreeNode(Node<K, V>[] array, int index, TreeNode<K, V> root, TreeNode<K, V> newNode) {
+        var newRoot = TreeNode.insert(root, newNode);
+        newNode.next = root.next;
+        if (root.next != null) {
+            ((TreeNode<K, V>) root.next).prev = newNode;
+        }
+        root.next = newNode;
+        newNode.prev = root;
+        moveRootToFront(array, index, newRoot);
+    }
+
+    private V removeTreeNode(Node<K, V>[] array, int index, TreeNode<K, V> root, K key) {
+        var node = root.find(key);
+        if (node == null) {
+            return null;
+        }
+        var newRoot = TreeNode.delete(root, node);
+        var next = (TreeNode<K, V>) node.next;
+        if (node.prev == null) {
+            array[index] = next;
+        } else {
+            node.prev.next = next;
+        }
+        if (next != null) {
+            next.prev = node.prev;
+        }
+        if (newRoot != null) {
+            moveRootToFront(array, index, newRoot);
+            if (countNodes(newRoot, UNTREEIFY_THRESHOLD + 1) <= UNTREEIFY_THRESHOLD) {
+                untreeify(array, index);
+            }
+        }
+        size--;
+        return node.value;
+    }
+
+    private void moveRootToFront(Node<K, V>[] array, int index, TreeNode<K, V> root) {
+        var head = (TreeNode<K, V>) array[index];
+        if (head == root) {
+            return;
+        }
+        root.prev.next = root.next;
+        if (root.next != null) {
+            ((TreeNode<K, V>) root.next).prev = root.prev;
+        }
+        root.prev = null;
+        root.next = head;
+        head.prev = root;
+        array[index] = root;
+    }
+
+    /**
+     * Replaces a bucket with a tree, if all its keys are {@link Comparable} instances of the same class.
+     */
+    private void treeify(Node<K, V>[] array, int index) {
+        var head = array[index];
+        if (!(head.key instanceof Comparable)) {
+            return;
+        }
+        for (var current = head; current != null; current = current.next) {
+            if (current.key == null || current.key.getClass() != head.key.getClass()) {
+                return;
+            }
+        }
+        array[index] = null;
+        for (var current = head; current != null; current = current.next) {
+            var treeNode = new TreeNode<>(current.key, current.value);
+            if (array[index] instanceof TreeNode<K, V> root) {
+                addTreeNode(array, index, root, treeNode);
+            } else {
+                array[index] = treeNode;
+            }
+        }
+    }
+
+    private void untreeify(Node<K, V>[] array, int index) {
+        Node<K, V> head = null;
+        for (var current = array[index]; current != null; current = current.next) {
+            var node = new Node<>(current.key, current.value);
+            node.next = head;
+            head = node;
+        }
+        array[index] = head;
+    }
+
+    private int countNodes(Node<K, V> head, int limit) {
+        int count = 0;
+        for (var current = head; current != null && count < limit; current = current.next) {
+            count++;
+        }
+        return count;
+    }
+
+    private void growTable() {
+        if (!incrementalResize) {
+            resizeTable(table.length * 2);
+            return;
+        }
+        completeMigration();
+        oldTable = table;
+        table = createTable(oldTable.length * 2);
+        migrationIndex = 0;
+    }
+
+    /**
+     * Moves at most {@link HashTable#MIGRATION_STEP} buckets from the old array to the new one. Since the new array is
+     * twice as big, and the resize starts when it's three quarters full, the migration is always finished before
+     * the new array reaches the threshold.
+     */
+    private void migrateStep() {
+        if (oldTable == null) {
+            return;
+        }
+        int end = Math.min(migrationIndex + MIGRATION_STEP, oldTable.length);
+        for (; migrationIndex < end; migrationIndex++) {
+            moveBucket(oldTable, migrationIndex, table);
+        }
+        if (migrationIndex == oldTable.length) {
+            oldTable = null;
+        }
+    }
+
+    private void completeMigration() {
+        if (oldTable != null) {
+            transfer(oldTable, table);
+            oldTable = null;
+        }
+    }
+
+    private void transfer(Node<K, V>[] source, Node<K, V>[] target) {
+        for (int i = 0; i < source.length; i++) {
+            moveBucket(source, i, target);
+        }
+    }
+
+    private void moveBucket(Node<K, V>[] source, int index, Node<K, V>[] target) {
+        var current = source[index];
+        source[index] = null;
+        while (current != null) {
+            var next = current.next;
+            addNode(target, current instanceof TreeNode ? new Node<>(current.key, current.value) : current);
+            current = next;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<K, V>[] createTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        return new Node[capacity];
     }
 }
@@ -0,0 +1,264 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+
+/**
+ * {@link OpenAddressingHashTable} is an alternative implementation of {@link Map} interface that does not use nodes at
+ * all. Keys, values and hashes are stored in three parallel flat arrays, so a lookup touches a few neighbouring array
+ * slots instead of chasing pointers across the heap, and a put never allocates.
+ * <p>
+ * Collisions are resolved using linear probing with Robin Hood ordering: while inserting, an element that is closer
+ * to its home slot gives its place to the one that is farther away. It keeps probe sequences short and allows to stop
+ * a search early, once the distance of the probed element is less than the distance of the searched one.
+ * <p>
+ * Removal uses backward-shift deletion, so the table never contains tombstones: all the following elements of the
+ * cluster are moved one slot back until an empty slot or an element that is already in its home slot is reached.
+ * <p>
+ * The capacity of the table is always a power of two, which allows to calculate an index using a bit mask. The initial
+ * capacity is 8, and the table is resized once it's three quarters full, up to the maximum capacity of 2^30. Null keys
+ * are not supported, because an empty slot is represented by a null key.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class OpenAddressingHashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.75f;
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int size;
+    private int threshold;
+
+    public OpenAddressingHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table with a given initial capacity. The capacity is rounded up to the nearest power of two.
+     *
+     * @param initialCapacity initial table capacity
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public OpenAddressingHashTable(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Spreads the higher bits of the hash code to the lower ones, and returns a hash that is used to find a home slot
+     * using a bit mask.
+     *
+     * @param key
+     * @return spread hash code
+     * @throws NullPointerException if the key is null
+     */
+    static int hash(Object key) {
+        int h = Objects.requireNonNull(key, "Key should not be null").hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Creates or updates a mapping. If the key is new, it moves along the probe sequence and swaps the element that is
+     * being inserted with any element that is closer to its home slot (Robin Hood insertion).
+     *
+     * @param key
+     * @param value
+     * @return old value or null
+     * @throws NullPointerException  if the key is null
+     * @throws IllegalStateException if the table has the maximum capacity and every slot is taken
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int index = findIndex(key, hash);
+        if (index >= 0) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        if (size >= threshold && keys.length < MAXIMUM_CAPACITY) {
+            resizeTable(keys.length << 1);
+        }
+        if (size == keys.length) {
+            throw new IllegalStateException("Table is full");
+        }
+        insert(key, value, hash);
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = findIndex(key, hash(key));
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findIndex(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes a mapping and fills the gap by shifting the rest of the cluster one slot back.
+     *
+     * @param key
+     * @return removed value or null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int index = findIndex(key, hash(key));
+        if (index < 0) {
+            return null;
+        }
+        V removedValue = (V) values[index];
+        shiftBackward(index);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Creates new underlying arrays with a given capacity (rounded up to the nearest power of two) and reinserts all
+     * elements.
+     *
+     * @param newCapacity a size of the new underlying arrays
+     * @throws IllegalArgumentException if the new capacity cannot fit all elements
+     */
+    public void resizeTable(int newCapacity) {
+        if (newCapacity < size) {
+            throw new IllegalArgumentException("New capacity cannot be less than the table size");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(tableSizeFor(Math.max(newCapacity, 1)));
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a string that represents the underlying arrays. Every row starts with an array index followed by ": ",
+     * and then the key=value pair stored in this slot, if any.
+     *
+     * @return table representation
+     */
+    @Override
+    public String toString() {
+        var result = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            result.append(i).append(": ");
+            if (keys[i] != null) {
+                result.append(keys[i]).append("=").append(values[i]);
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    private int findIndex(Object key, int hash) {
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        for (int distance = 0; keys[index] != null; distance++) {
+            if (probeDistance(index) < distance) {
+                return -1;
+            }
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(Object key, Object value, int hash) {
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        for (int distance = 0; keys[index] != null; distance++) {
+            int existingDistance = probeDistance(index);
+            if (existingDistance < distance) {
+                Object displacedKey = keys[index];
+                Object displacedValue = values[index];
+                int displacedHash = hashes[index];
+                keys[index] = key;
+                values[index] = value;
+                hashes[index] = hash;
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                distance = existingDistance;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void shiftBackward(int index) {
+        int mask = keys.length - 1;
+        int next = (index + 1) & mask;
+        while (keys[next] != null && probeDistance(next) > 0) {
+            keys[index] = keys[next];
+            values[index] = values[next];
+            hashes[index] = hashes[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        keys[index] = null;
+        values[index] = null;
+        hashes[index] = 0;
+    }
+
+    private int probeDistance(int index) {
+        int mask = keys.length - 1;
+        return (index - (hashes[index] & mask)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Rounds the capacity up to the nearest power of two, but not above {@link #MAXIMUM_CAPACITY}.
+     */
+    static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        int highestBit = Integer.highestOneBit(capacity);
+        return highestBit == capacity ? capacity : highestBit << 1;
+    }
+}
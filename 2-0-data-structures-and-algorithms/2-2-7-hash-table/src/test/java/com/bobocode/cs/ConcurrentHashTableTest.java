@@ -0,0 +1,224 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrentHashTable Test")
+class ConcurrentHashTableTest {
+
+    private static final int THREADS = 8;
+
+    private ConcurrentHashTable<Integer, Integer> hashTable = new ConcurrentHashTable<>(2);
+
+    @Test
+    @DisplayName("put, get and remove work as a regular map in a single thread")
+    void singleThreadOperations() {
+        assertThat(hashTable.put(1, 10)).isNull();
+        assertThat(hashTable.put(1, 11)).isEqualTo(10);
+        assertThat(hashTable.put(2, 20)).isNull();
+
+        assertThat(hashTable.get(1)).isEqualTo(11);
+        assertThat(hashTable.containsKey(2)).isTrue();
+        assertThat(hashTable.containsValue(20)).isTrue();
+        assertThat(hashTable.remove(2)).isEqualTo(20);
+        assertThat(hashTable.remove(2)).isNull();
+        assertThat(hashTable.containsKey(2)).isFalse();
+        assertThat(hashTable.size()).isEqualTo(1);
+        assertThat(hashTable.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("put throws exception when key or value is null")
+    void putNulls() {
+        assertThatThrownBy(() -> hashTable.put(null, 1)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> hashTable.put(1, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("table grows automatically and keeps all elements")
+    void automaticResize() {
+        for (int i = 0; i < 1_000; i++) {
+            hashTable.put(i, i);
+        }
+
+        assertThat(hashTable.capacity()).isGreaterThanOrEqualTo(1_024);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(hashTable.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("resizeTable can shrink the table and keeps all elements")
+    void resizeTableShrink() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put(i, i);
+        }
+
+        hashTable.resizeTable(4);
+
+        assertThat(hashTable.capacity()).isEqualTo(4);
+        assertThat(hashTable.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(hashTable.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent puts of disjoint keys are all visible once writers are done")
+    void concurrentPuts() {
+        int keysPerThread = 20_000;
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < keysPerThread; i++) {
+                int key = thread * keysPerThread + i;
+                hashTable.put(key, -key);
+            }
+            return null;
+        });
+
+        assertThat(hashTable.size()).isEqualTo(THREADS * keysPerThread);
+        for (int key = 0; key < THREADS * keysPerThread; key++) {
+            assertThat(hashTable.get(key)).isEqualTo(-key);
+        }
+    }
+
+    @Test
+    @DisplayName("lock-free readers never see a wrong value while writers put, remove and resize")
+    void concurrentReadersAndWriters() {
+        int keys = 50_000;
+        var failed = new AtomicBoolean();
+
+        runConcurrently(thread -> () -> {
+            var random = ThreadLocalRandom.current();
+            for (int i = 0; i < 100_000; i++) {
+                int key = random.nextInt(keys);
+                switch (thread % 4) {
+                    case 0 -> hashTable.put(key, key * 2);
+                    case 1 -> hashTable.remove(key);
+                    case 2 -> {
+                        var value = hashTable.get(key);
+                        if (value != null && value != key * 2) {
+                            failed.set(true);
+                        }
+                    }
+                    default -> {
+                        if (i % 20_000 == 0) {
+                            hashTable.resizeTable(random.nextInt(1, 1 << 16));
+                        } else {
+                            hashTable.containsKey(key);
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+
+        assertThat(failed).isFalse();
+        int count = 0;
+        for (int key = 0; key < keys; key++) {
+            var value = hashTable.get(key);
+            if (value != null) {
+                assertThat(value).isEqualTo(key * 2);
+                count++;
+            }
+        }
+        assertThat(hashTable.size()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("containsValue finds every value while the table grows and shrinks")
+    void containsValueDuringResize() {
+        int keys = 100_000;
+        for (int key = 0; key < keys; key++) {
+            hashTable.put(key, -key);
+        }
+        var failed = new AtomicBoolean();
+
+        runConcurrently(thread -> () -> {
+            var random = ThreadLocalRandom.current();
+            for (int round = 0; round < 10; round++) {
+                if (thread % 2 == 0) {
+                    hashTable.resizeTable(round % 2 == 0 ? 4 : 1 << 18);
+                } else {
+                    int key = random.nextInt(keys);
+                    if (!hashTable.containsValue(-key)) {
+                        failed.set(true);
+                    }
+                }
+                Thread.yield();
+            }
+            return null;
+        });
+
+        assertThat(failed).isFalse();
+        assertThat(hashTable.size()).isEqualTo(keys);
+    }
+
+    @Test
+    @DisplayName("concurrent put and remove of the same keys keep size consistent with the content")
+    void concurrentPutAndRemoveOfSameKeys() {
+        int keys = 1_000;
+
+        runConcurrently(thread -> () -> {
+            for (int round = 0; round < 50; round++) {
+                for (int key = 0; key < keys; key++) {
+                    if ((round + thread) % 2 == 0) {
+                        hashTable.put(key, key);
+                    } else {
+                        hashTable.remove(key);
+                    }
+                }
+            }
+            return null;
+        });
+
+        int count = 0;
+        for (int key = 0; key < keys; key++) {
+            if (hashTable.containsKey(key)) {
+                count++;
+            }
+        }
+        assertThat(hashTable.size()).isEqualTo(count);
+    }
+
+    @SneakyThrows
+    private void runConcurrently(TaskFactory taskFactory) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var barrier = new CyclicBarrier(THREADS);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                Callable<Void> task = taskFactory.create(thread);
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return task.call();
+                }));
+            }
+            for (var future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    interface TaskFactory {
+        Callable<Void> create(int thread);
+    }
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.*;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -534,6 +536,283 @@ class HashTableTest {
 
     }
 
+    @Nested
+    @Order(7)
+    @DisplayName("7. Incremental resize Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableIncrementalResizeTest {
+
+        private HashTable<Integer, Integer> incrementalTable = new HashTable<>(8, true);
+
+        @Test
+        @Order(1)
+        @DisplayName("put keeps the old array side by side with the new one once the threshold is reached")
+        void putStartsMigration() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put(i, i);
+            }
+
+            assertThat(getOldTable(incrementalTable)).hasSize(8);
+            assertThat(getInternalTable(incrementalTable)).hasSize(16);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("get, containsKey and remove stay correct while the migration is in flight")
+        void operationsDuringMigration() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put(i, i * 10);
+            }
+
+            assertThat(getOldTable(incrementalTable)).isNotNull();
+            assertThat(incrementalTable.get(6)).isEqualTo(60);
+            assertThat(incrementalTable.containsKey(5)).isTrue();
+            assertThat(incrementalTable.containsValue(40)).isTrue();
+            assertThat(incrementalTable.remove(4)).isEqualTo(40);
+            assertThat(incrementalTable.containsKey(4)).isFalse();
+            assertThat(incrementalTable.put(3, 33)).isEqualTo(30);
+            assertThat(incrementalTable.size()).isEqualTo(6);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("each operation moves a bounded number of buckets until the migration is done")
+        void migrationFinishesAfterBoundedNumberOfOperations() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put(i, i);
+            }
+
+            for (int i = 0; i < 4; i++) {
+                assertThat(getOldTable(incrementalTable)).isNotNull();
+                incrementalTable.get(i);
+            }
+
+            assertThat(getOldTable(incrementalTable)).isNull();
+            for (int i = 0; i < 7; i++) {
+                assertThat(incrementalTable.get(i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("toString prints both arrays and does not advance the migration")
+        void toStringDuringMigration() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put(i, i);
+            }
+            var oldTable = getOldTable(incrementalTable);
+            var oldTableContent = Arrays.copyOf(oldTable, oldTable.length);
+
+            String tableStr = incrementalTable.toString();
+
+            assertThat(getOldTable(incrementalTable)).isSameAs(oldTable).containsExactly(oldTableContent);
+            assertThat(tableStr).startsWith(tableToString(getInternalTable(incrementalTable)) + "migrating from:\n");
+            assertThat(tableStr).endsWith("migrating from:\n" + tableToString(oldTable));
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("a large number of puts and removes gives the same result as java.util.HashMap")
+        void randomOperationsMatchHashMap() {
+            var expected = new HashMap<Integer, Integer>();
+            var random = new Random(7);
+
+            for (int i = 0; i < 50_000; i++) {
+                int key = random.nextInt(10_000);
+                if (random.nextInt(4) == 0) {
+                    assertThat(incrementalTable.remove(key)).isEqualTo(expected.remove(key));
+                } else {
+                    assertThat(incrementalTable.put(key, i)).isEqualTo(expected.put(key, i));
+                }
+                assertThat(incrementalTable.get(key)).isEqualTo(expected.get(key));
+            }
+
+            assertThat(incrementalTable.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(incrementalTable.get(key)).isEqualTo(value));
+        }
+
+        @SneakyThrows
+        private Object[] getOldTable(HashTable<?, ?> hashTable) {
+            var oldTableField = HashTable.class.getDeclaredField("oldTable");
+            oldTableField.setAccessible(true);
+            return (Object[]) oldTableField.get(hashTable);
+        }
+    }
+
+    @Nested
+    @Order(8)
+    @DisplayName("8. Hash spreading and tree buckets Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashTableSpreadingAndTreeBucketsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("calculateIndex with a spreader returns values in array bounds")
+        void calculateIndexWithSpreaderReturnsIndexInArrayBounds() {
+            var spreaders = Stream.of(HashSpreader.IDENTITY, HashSpreader.FIBONACCI, HashSpreader.murmur(42));
+            var keys = Stream.generate(() -> ThreadLocalRandom.current().nextLong())
+                    .limit(100)
+                    .toList();
+
+            spreaders.forEach(spreader -> assertThat(keys)
+                    .map(key -> HashTable.calculateIndex(key, 10, spreader))
+                    .allMatch(i -> i >= 0 && i < 10));
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("spreaders distribute sequential keys that are multiples of the table capacity")
+        void spreadersDistributeMultiplesOfCapacity() {
+            var keys = Stream.iterate(0L, key -> key + 64).limit(64).toList();
+
+            var identityIndexes = keys.stream()
+                    .map(key -> HashTable.calculateIndex(key, 64))
+                    .collect(Collectors.toSet());
+            var fibonacciIndexes = keys.stream()
+                    .map(key -> HashTable.calculateIndex(key, 64, HashSpreader.FIBONACCI))
+                    .collect(Collectors.toSet());
+            var murmurIndexes = keys.stream()
+                    .map(key -> HashTable.calculateIndex(key, 64, HashSpreader.murmur(7)))
+                    .collect(Collectors.toSet());
+
+            assertThat(identityIndexes).hasSize(1);
+            assertThat(fibonacciIndexes).hasSizeGreaterThan(16);
+            assertThat(murmurIndexes).hasSizeGreaterThan(16);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("a long bucket of comparable keys is turned into a tree and back into a list")
+        void longBucketIsTreeified() {
+            var collidingTable = new HashTable<CollidingKey, Integer>();
+            for (int i = 0; i < 100; i++) {
+                collidingTable.put(new CollidingKey(i), i);
+            }
+
+            var bucket = getBucket(collidingTable, new CollidingKey(0));
+            assertThat(bucket.getClass().getSimpleName()).isEqualTo("TreeNode");
+            for (int i = 0; i < 100; i++) {
+                assertThat(collidingTable.get(new CollidingKey(i))).isEqualTo(i);
+            }
+            assertThat(collidingTable.containsKey(new CollidingKey(100))).isFalse();
+
+            for (int i = 0; i < 95; i++) {
+                assertThat(collidingTable.remove(new CollidingKey(i))).isEqualTo(i);
+            }
+
+            bucket = getBucket(collidingTable, new CollidingKey(0));
+            assertThat(bucket.getClass().getSimpleName()).isEqualTo("Node");
+            assertThat(collidingTable.size()).isEqualTo(5);
+            for (int i = 95; i < 100; i++) {
+                assertThat(collidingTable.get(new CollidingKey(i))).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("a long bucket of non-comparable keys stays a list")
+        void longBucketOfNonComparableKeysStaysList() {
+            var collidingTable = new HashTable<Object, Integer>();
+            var keys = Stream.generate(NonComparableKey::new).limit(20).toList();
+            keys.forEach(key -> collidingTable.put(key, 1));
+
+            var bucket = getBucket(collidingTable, keys.get(0));
+            assertThat(bucket.getClass().getSimpleName()).isEqualTo("Node");
+            assertThat(keys).allMatch(collidingTable::containsKey);
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("a random sequence of operations with colliding keys gives the same result as java.util.HashMap")
+        void randomOperationsWithCollidingKeysMatchHashMap() {
+            var collidingTable = new HashTable<CollidingKey, Integer>(8, true, HashSpreader.murmur(13));
+            var expected = new HashMap<CollidingKey, Integer>();
+            var random = new Random(13);
+
+            for (int i = 0; i < 20_000; i++) {
+                var key = new CollidingKey(random.nextInt(500));
+                if (random.nextInt(3) == 0) {
+                    assertThat(collidingTable.remove(key)).isEqualTo(expected.remove(key));
+                } else {
+                    assertThat(collidingTable.put(key, i)).isEqualTo(expected.put(key, i));
+                }
+                if (i % 5_000 == 0) {
+                    collidingTable.resizeTable(random.nextInt(1, 64));
+                }
+            }
+
+            assertThat(collidingTable.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(collidingTable.get(key)).isEqualTo(value));
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("a tree bucket uses equals to find keys that compareTo considers equal")
+        void treeBucketWithKeysInconsistentWithEquals() {
+            var collidingTable = new HashTable<UnorderedKey, Integer>();
+            for (int i = 0; i < 20; i++) {
+                assertThat(collidingTable.put(new UnorderedKey(i), i)).isNull();
+            }
+
+            assertThat(getBucket(collidingTable, new UnorderedKey(0)).getClass().getSimpleName()).isEqualTo("TreeNode");
+            assertThat(collidingTable.size()).isEqualTo(20);
+            for (int i = 0; i < 20; i++) {
+                assertThat(collidingTable.get(new UnorderedKey(i))).isEqualTo(i);
+            }
+            assertThat(collidingTable.containsKey(new UnorderedKey(20))).isFalse();
+
+            for (int i = 0; i < 20; i += 2) {
+                assertThat(collidingTable.remove(new UnorderedKey(i))).isEqualTo(i);
+            }
+            assertThat(collidingTable.size()).isEqualTo(10);
+            for (int i = 0; i < 20; i++) {
+                assertThat(collidingTable.get(new UnorderedKey(i))).isEqualTo(i % 2 == 0 ? null : i);
+            }
+        }
+
+        private Object getBucket(HashTable<?, ?> table, Object key) {
+            var internalTable = getInternalTable(table);
+            return internalTable[HashTable.calculateIndex(key, internalTable.length)];
+        }
+    }
+
+    /**
+     * A key that always has the same hash code, so all instances end up in the same bucket.
+     */
+    record CollidingKey(int id) implements Comparable<CollidingKey> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * A colliding key, which {@code compareTo} is inconsistent with equals: it considers all keys equal.
+     */
+    record UnorderedKey(int id) implements Comparable<UnorderedKey> {
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(UnorderedKey other) {
+            return 0;
+        }
+    }
+
+    static class NonComparableKey {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
     // Util methods
     @SneakyThrows
     private Object[] getInternalTable(HashTable<?, ?> hashTable) {
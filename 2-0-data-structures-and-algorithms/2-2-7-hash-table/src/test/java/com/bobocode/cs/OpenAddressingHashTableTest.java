@@ -0,0 +1,166 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OpenAddressingHashTable Test")
+class OpenAddressingHashTableTest {
+
+    private OpenAddressingHashTable<String, Integer> hashTable = new OpenAddressingHashTable<>();
+
+    @Test
+    @DisplayName("put creates new entry and returns null")
+    void putNewKey() {
+        var previousValue = hashTable.put("madmax", 833);
+
+        assertThat(previousValue).isNull();
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put updates the value and returns the previous one when key is the same")
+    void putExistingKey() {
+        hashTable.put("madmax", 833);
+
+        var previousValue = hashTable.put("madmax", 876);
+
+        assertThat(previousValue).isEqualTo(833);
+        assertThat(hashTable.get("madmax")).isEqualTo(876);
+        assertThat(hashTable.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put and get work for keys with the same hash code")
+    void putKeysWithTheSameHashCode() {
+        hashTable.put("AaAa", 123);
+        hashTable.put("BBBB", 456);
+        hashTable.put("AaBB", 789);
+
+        assertThat(hashTable.get("AaAa")).isEqualTo(123);
+        assertThat(hashTable.get("BBBB")).isEqualTo(456);
+        assertThat(hashTable.get("AaBB")).isEqualTo(789);
+        assertThat(hashTable.get("BBAa")).isNull();
+    }
+
+    @Test
+    @DisplayName("put throws exception when key is null")
+    void putNullKey() {
+        assertThatThrownBy(() -> hashTable.put(null, 1)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("get, containsKey and remove throw exception when key is null")
+    void nullKeyLookups() {
+        assertThatThrownBy(() -> hashTable.get(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Key should not be null");
+        assertThatThrownBy(() -> hashTable.containsKey(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> hashTable.remove(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("containsKey and containsValue check existing entries")
+    void containsKeyAndValue() {
+        hashTable.put("madmax", 833);
+
+        assertThat(hashTable.containsKey("madmax")).isTrue();
+        assertThat(hashTable.containsKey("altea")).isFalse();
+        assertThat(hashTable.containsValue(833)).isTrue();
+        assertThat(hashTable.containsValue(553)).isFalse();
+    }
+
+    @Test
+    @DisplayName("remove deletes an entry from the middle of a cluster and keeps the rest reachable")
+    void removeFromTheMiddleOfCluster() {
+        hashTable.put("AaAa", 843);
+        hashTable.put("BBBB", 434);
+        hashTable.put("AaBB", 587);
+
+        var removedValue = hashTable.remove("BBBB");
+
+        assertThat(removedValue).isEqualTo(434);
+        assertThat(hashTable.containsKey("BBBB")).isFalse();
+        assertThat(hashTable.get("AaAa")).isEqualTo(843);
+        assertThat(hashTable.get("AaBB")).isEqualTo(587);
+        assertThat(hashTable.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("remove returns null when key does not exist")
+    void removeWhenKeyDoesNotExist() {
+        assertThat(hashTable.remove("madmax")).isNull();
+        assertThat(hashTable.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("resizeTable keeps all elements")
+    void resizeTable() {
+        hashTable.put("madmax", 833);
+        hashTable.put("altea", 553);
+        hashTable.put("AaAa", 123);
+        hashTable.put("BBBB", 456);
+
+        hashTable.resizeTable(64);
+
+        assertThat(hashTable.toString().lines()).hasSize(64);
+        assertThat(hashTable.get("madmax")).isEqualTo(833);
+        assertThat(hashTable.get("altea")).isEqualTo(553);
+        assertThat(hashTable.get("AaAa")).isEqualTo(123);
+        assertThat(hashTable.get("BBBB")).isEqualTo(456);
+    }
+
+    @Test
+    @DisplayName("resizeTable throws exception when new capacity is less than size")
+    void resizeTableWhenCapacityIsTooSmall() {
+        hashTable.put("madmax", 833);
+        hashTable.put("altea", 553);
+
+        assertThatThrownBy(() -> hashTable.resizeTable(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("constructor throws exception when capacity is not positive")
+    void constructorWithNegativeCapacity() {
+        assertThatThrownBy(() -> new OpenAddressingHashTable<>(-2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("table size is rounded up to a power of two and clamped at the maximum capacity")
+    void tableSizeFor() {
+        assertThat(OpenAddressingHashTable.tableSizeFor(1)).isEqualTo(1);
+        assertThat(OpenAddressingHashTable.tableSizeFor(100)).isEqualTo(128);
+        assertThat(OpenAddressingHashTable.tableSizeFor(1 << 30)).isEqualTo(1 << 30);
+        assertThat(OpenAddressingHashTable.tableSizeFor((1 << 30) + 1)).isEqualTo(1 << 30);
+        assertThat(OpenAddressingHashTable.tableSizeFor(Integer.MAX_VALUE)).isEqualTo(1 << 30);
+    }
+
+    @Test
+    @DisplayName("random sequence of put and remove operations gives the same result as java.util.HashMap")
+    void randomOperationsMatchHashMap() {
+        var table = new OpenAddressingHashTable<Integer, Integer>();
+        var expected = new HashMap<Integer, Integer>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) * 64; // multiples of table capacity collide in the lower bits
+            if (random.nextInt(3) == 0) {
+                assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(table.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+        for (int key = 1; key < 2_000 * 64; key += 64) {
+            assertThat(table.containsKey(key)).isFalse();
+        }
+    }
+}
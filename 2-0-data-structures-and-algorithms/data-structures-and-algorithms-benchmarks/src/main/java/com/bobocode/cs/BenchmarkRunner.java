@@ -0,0 +1,69 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BenchmarkRunner} runs benchmarks of this module with the standard JMH command line options, e.g.
+ * {@code BinarySearchTree -f 1 -p size=1000 -prof gc}. Without arguments, it runs all benchmarks.
+ * <p>
+ * Unless the options say otherwise, the results are written in JSON to {@link BenchmarkRunner#DEFAULT_RESULT_FILE},
+ * so the results of two versions can be compared with any JSON diff tool. The whole suite is run with a single Maven
+ * command from the root of the project:
+ * <pre>
+ * mvn verify -P benchmarks -DskipTests -pl 2-0-data-structures-and-algorithms/data-structures-and-algorithms-benchmarks -am
+ * </pre>
+ * JMH options are passed using {@code -Djmh.args="..."}, and the result file is changed using
+ * {@code -Djmh.result=...}.
+ */
+public class BenchmarkRunner {
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        var commandLineOptions = new CommandLineOptions(args);
+        var options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Runs a single benchmark class. It is used by main methods of the benchmarks, so they can be run from an IDE.
+     *
+     * @param benchmark a benchmark class
+     * @param args      additional JMH command line options
+     */
+    static void run(Class<?> benchmark, String... args) throws RunnerException, CommandLineOptionException {
+        var arguments = Arrays.copyOf(args, args.length + 1);
+        // the class name is matched as a whole, so e.g. StackBenchmark does not include LockFreeStackBenchmark
+        arguments[args.length] = Pattern.quote(benchmark.getName() + ".");
+        main(arguments);
+    }
+
+    /**
+     * Appends the GC profiler to the command line options, for the benchmarks that measure allocations.
+     *
+     * @param args JMH command line options
+     * @return the same options followed by {@code -prof gc}
+     */
+    static String[] withGcProfiler(String... args) {
+        var arguments = Arrays.copyOf(args, args.length + 2);
+        arguments[args.length] = "-prof";
+        arguments[args.length + 1] = "gc";
+        return arguments;
+    }
+}
@@ -0,0 +1,118 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A comparison of the core {@link BinarySearchTree} operations of the linked trees for different sizes and
+ * {@link KeyDistribution}s. {@link KeyDistribution#SEQUENTIAL} keys are not used, because they turn unbalanced trees
+ * into lists. {@code insert} builds a new tree of all keys and {@code inOrderTraversal} visits all of them, so their
+ * scores are the time of the whole pass. Lookups are measured per operation. Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinarySearchTreeBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    public enum Implementation {
+        RECURSIVE(RecursiveBinarySearchTree::new),
+        ITERATIVE(IterativeBinarySearchTree::new),
+        AVL(AvlBinarySearchTree::new);
+
+        private final Supplier<BinarySearchTree<Integer>> factory;
+
+        Implementation(Supplier<BinarySearchTree<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Implementation implementation;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"UNIFORM", "CLUSTERED"})
+    private KeyDistribution distribution;
+
+    private Integer[] keys;
+    private Integer[] presentKeys;
+    private Integer[] absentKeys;
+    private BinarySearchTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        keys = distribution.keys(size, random);
+        presentKeys = KeyDistribution.sample(keys, LOOKUPS, random);
+        absentKeys = KeyDistribution.absentKeys(keys, LOOKUPS, random);
+        tree = fill();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BinarySearchTree<Integer> insert() {
+        return fill();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int containsPresent() {
+        return countFound(presentKeys);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int containsAbsent() {
+        return countFound(absentKeys);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void inOrderTraversal(Blackhole blackhole) {
+        tree.inOrderTraversal(blackhole::consume);
+    }
+
+    private BinarySearchTree<Integer> fill() {
+        var newTree = implementation.factory.get();
+        for (var key : keys) {
+            newTree.insert(key);
+        }
+        return newTree;
+    }
+
+    private int countFound(Integer[] lookups) {
+        int found = 0;
+        for (var key : lookups) {
+            if (tree.contains(key)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(BinarySearchTreeBenchmark.class, args);
+    }
+}
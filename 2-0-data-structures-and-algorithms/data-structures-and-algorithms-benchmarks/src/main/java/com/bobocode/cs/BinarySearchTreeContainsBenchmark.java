@@ -0,0 +1,97 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A comparison of {@link BinarySearchTree#contains(Comparable)} in linked trees and in the array-based
+ * {@link EytzingerBinarySearchTree} built from the same random elements. Half of the searched keys are present in the
+ * tree. Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinarySearchTreeContainsBenchmark {
+    private static final int KEYS = 1024;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private RecursiveBinarySearchTree<Integer> recursiveTree;
+    private AvlBinarySearchTree<Integer> avlTree;
+    private EytzingerBinarySearchTree<Integer> eytzingerTree;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var elements = new TreeSet<Integer>();
+        recursiveTree = new RecursiveBinarySearchTree<>();
+        avlTree = new AvlBinarySearchTree<>();
+        while (elements.size() < size) {
+            int element = random.nextInt(Integer.MAX_VALUE) & ~1;
+            if (elements.add(element)) {
+                recursiveTree.insert(element);
+                avlTree.insert(element);
+            }
+        }
+        eytzingerTree = new EytzingerBinarySearchTree<>(elements);
+        var present = elements.toArray(Integer[]::new);
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            // even elements are in the tree, odd ones are not
+            keys[i] = present[random.nextInt(size)] + random.nextInt(2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public int recursiveContains() {
+        return countFound(recursiveTree);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public int avlContains() {
+        return countFound(avlTree);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public int eytzingerContains() {
+        return countFound(eytzingerTree);
+    }
+
+    private int countFound(BinarySearchTree<Integer> tree) {
+        int found = 0;
+        for (var key : keys) {
+            if (tree.contains(key)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(BinarySearchTreeContainsBenchmark.class, args);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A comparison of recursive operations of {@link RecursiveBinarySearchTree} and the allocation-free Morris-based
+ * operations of {@link IterativeBinarySearchTree} on the same random elements. Run it using the main method, and add
+ * {@code -prof gc} to the arguments to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinarySearchTreeTraversalBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private RecursiveBinarySearchTree<Integer> recursiveTree;
+    private IterativeBinarySearchTree<Integer> iterativeTree;
+
+    @Setup
+    public void setUp() {
+        recursiveTree = new RecursiveBinarySearchTree<>();
+        iterativeTree = new IterativeBinarySearchTree<>();
+        var random = new Random(42);
+        while (recursiveTree.size() < size) {
+            int element = random.nextInt();
+            recursiveTree.insert(element);
+            iterativeTree.insert(element);
+        }
+    }
+
+    @Benchmark
+    public void recursiveInOrderTraversal(Blackhole blackhole) {
+        recursiveTree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    public void morrisInOrderTraversal(Blackhole blackhole) {
+        iterativeTree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    public int recursiveDepth() {
+        return recursiveTree.depth();
+    }
+
+    @Benchmark
+    public int morrisDepth() {
+        return iterativeTree.depth();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(BinarySearchTreeTraversalBenchmark.class, args);
+    }
+}
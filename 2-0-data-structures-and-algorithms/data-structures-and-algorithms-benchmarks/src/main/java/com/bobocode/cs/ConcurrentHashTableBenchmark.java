@@ -0,0 +1,107 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A throughput comparison of {@link ConcurrentHashTable} and {@link HashTable} guarded by a single global lock.
+ * Every thread performs a mix of 90% gets and 10% puts over a fixed key range. Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ConcurrentHashTableBenchmark {
+    private static final int KEYS = 1 << 16;
+
+    @Param({"concurrent", "globalLock"})
+    private String implementation;
+
+    private Map<Integer, Integer> map;
+
+    @Setup
+    public void setUp() {
+        map = implementation.equals("concurrent") ? new ConcurrentHashTable<>() : new GloballyLockedMap<>(new HashTable<>());
+        for (int i = 0; i < KEYS; i++) {
+            map.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public Integer readMostly() {
+        var random = ThreadLocalRandom.current();
+        int key = random.nextInt(KEYS);
+        if (random.nextInt(10) == 0) {
+            return map.put(key, key);
+        }
+        return map.get(key);
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(ConcurrentHashTableBenchmark.class, args);
+    }
+
+    /**
+     * A {@link Map} wrapper that serializes all operations using a single lock.
+     */
+    static class GloballyLockedMap<K, V> implements Map<K, V> {
+        private final Map<K, V> map;
+
+        GloballyLockedMap(Map<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public synchronized V put(K key, V value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        public synchronized boolean containsKey(K key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public synchronized boolean containsValue(V value) {
+            return map.containsValue(value);
+        }
+
+        @Override
+        public synchronized int size() {
+            return map.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public synchronized V remove(K key) {
+            return map.remove(key);
+        }
+    }
+}
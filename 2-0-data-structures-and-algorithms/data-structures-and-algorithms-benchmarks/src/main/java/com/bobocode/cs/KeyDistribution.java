@@ -0,0 +1,70 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * {@link KeyDistribution} generates distinct integer keys for benchmarks of maps and trees. Keys are boxed in advance,
+ * so a benchmark does not measure boxing.
+ */
+public enum KeyDistribution {
+    /**
+     * Random keys from the whole int range.
+     */
+    UNIFORM {
+        @Override
+        Integer[] keys(int count, Random random) {
+            return random.ints().distinct().limit(count).boxed().toArray(Integer[]::new);
+        }
+    },
+    /**
+     * Keys 0, 1, 2, ... in increasing order.
+     */
+    SEQUENTIAL {
+        @Override
+        Integer[] keys(int count, Random random) {
+            return IntStream.range(0, count).boxed().toArray(Integer[]::new);
+        }
+    },
+    /**
+     * Runs of 64 consecutive keys in increasing order, which start at random multiples of 2^16, like ids allocated in
+     * blocks. Keys share their high bits within a run and their low bits across runs, which is bad for weak hash
+     * functions.
+     */
+    CLUSTERED {
+        @Override
+        Integer[] keys(int count, Random random) {
+            int runs = (count + RUN_LENGTH - 1) / RUN_LENGTH;
+            var starts = random.ints().map(key -> key & ~0xFFFF).distinct().limit(runs).toArray();
+            var keys = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = starts[i / RUN_LENGTH] + i % RUN_LENGTH;
+            }
+            return keys;
+        }
+    };
+
+    private static final int RUN_LENGTH = 64;
+
+    /**
+     * @return count distinct keys
+     */
+    abstract Integer[] keys(int count, Random random);
+
+    /**
+     * @return count random keys, that are not present in the given keys
+     */
+    static Integer[] absentKeys(Integer[] keys, int count, Random random) {
+        var present = new HashSet<>(Arrays.asList(keys));
+        return random.ints().filter(key -> !present.contains(key)).limit(count).boxed().toArray(Integer[]::new);
+    }
+
+    /**
+     * @return count keys, that are randomly sampled from the given keys
+     */
+    static Integer[] sample(Integer[] keys, int count, Random random) {
+        return random.ints(count, 0, keys.length).mapToObj(index -> keys[index]).toArray(Integer[]::new);
+    }
+}
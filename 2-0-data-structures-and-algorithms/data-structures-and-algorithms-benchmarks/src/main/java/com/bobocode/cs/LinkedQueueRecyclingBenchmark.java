@@ -0,0 +1,65 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A steady-state add/poll churn on {@link LinkedQueue} with and without node recycling. The main method runs it with
+ * the GC profiler, so {@code gc.alloc.rate.norm} shows the number of bytes allocated per operation. Without
+ * recycling, it is a half of a node size (a node per two operations), with a pool that is not smaller than a batch,
+ * it is zero.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedQueueRecyclingBenchmark {
+    private static final int BATCH = 64;
+    private static final Integer ELEMENT = 42;
+
+    @Param({"0", "64"})
+    private int maxPooledNodes;
+
+    private LinkedQueue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = new LinkedQueue<>(maxPooledNodes);
+        for (int i = 0; i < 1_000; i++) {
+            queue.add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * BATCH)
+    public int addAndPoll() {
+        for (int i = 0; i < BATCH; i++) {
+            queue.add(ELEMENT);
+        }
+        int sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(LinkedQueueRecyclingBenchmark.class, BenchmarkRunner.withGcProfiler(args));
+    }
+}
@@ -0,0 +1,111 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A comparison of the core {@link List} operations of all list implementations for different sizes. {@code add}
+ * builds a new list of all elements and {@code iterate} visits all of them, so their scores are the time of the whole
+ * pass. Random access is measured per operation. Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    public enum Implementation {
+        ARRAY_LIST(ArrayList::new),
+        INT_ARRAY_LIST(IntArrayList::new),
+        LINKED_LIST(LinkedList::new),
+        UNROLLED_LINKED_LIST(UnrolledLinkedList::new),
+        PERSISTENT_LIST(PersistentList::new);
+
+        private final Supplier<List<Integer>> factory;
+
+        Implementation(Supplier<List<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Implementation implementation;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Integer[] elements;
+    private int[] indexes;
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        elements = random.ints(size).boxed().toArray(Integer[]::new);
+        indexes = random.ints(LOOKUPS, 0, size).toArray();
+        list = fill();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> add() {
+        return fill();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long getRandom() {
+        long sum = 0;
+        for (int index : indexes) {
+            sum += list.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long iterate() {
+        long sum = 0;
+        for (var element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer addAndRemoveFirst() {
+        list.add(0, 0);
+        return list.remove(0);
+    }
+
+    private List<Integer> fill() {
+        var newList = implementation.factory.get();
+        for (var element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(ListBenchmark.class, args);
+    }
+}
@@ -0,0 +1,206 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A handoff throughput comparison of {@link SpscArrayQueue}, {@link MpscArrayQueue} and {@link LinkedQueue} guarded by
+ * a single lock. The queue is shared by a group of producer threads and one consumer thread. Offers to a full queue and
+ * polls from an empty one are counted separately, so the "offered" and "polled" counters show the number of successful
+ * handoffs per second. Run it using the main method.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockFreeQueueBenchmark {
+    private static final int CAPACITY = 1 << 14;
+    private static final Integer ELEMENT = 42;
+
+    @State(Scope.Group)
+    public static class OneProducer {
+        @Param({"spsc", "mpsc", "synchronizedLinked"})
+        private String implementation;
+
+        private BoundedQueue queue;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            queue = BoundedQueue.create(implementation);
+        }
+    }
+
+    @State(Scope.Group)
+    public static class ThreeProducers {
+        @Param({"mpsc", "synchronizedLinked"})
+        private String implementation;
+
+        private BoundedQueue queue;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            queue = BoundedQueue.create(implementation);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ProducerCounters {
+        public long offered;
+        public long offerFailed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = offerFailed = 0;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ConsumerCounters {
+        public long polled;
+        public long pollFailed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            polled = pollFailed = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public void oneToOneOffer(OneProducer state, ProducerCounters counters) {
+        offer(state.queue, counters);
+    }
+
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public void oneToOnePoll(OneProducer state, ConsumerCounters counters) {
+        poll(state.queue, counters);
+    }
+
+    @Benchmark
+    @Group("threeToOne")
+    @GroupThreads(3)
+    public void threeToOneOffer(ThreeProducers state, ProducerCounters counters) {
+        offer(state.queue, counters);
+    }
+
+    @Benchmark
+    @Group("threeToOne")
+    @GroupThreads(1)
+    public void threeToOnePoll(ThreeProducers state, ConsumerCounters counters) {
+        poll(state.queue, counters);
+    }
+
+    private static void offer(BoundedQueue queue, ProducerCounters counters) {
+        if (queue.offer(ELEMENT)) {
+            counters.offered++;
+        } else {
+            counters.offerFailed++;
+        }
+    }
+
+    private static void poll(BoundedQueue queue, ConsumerCounters counters) {
+        if (queue.poll() != null) {
+            counters.polled++;
+        } else {
+            counters.pollFailed++;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(LockFreeQueueBenchmark.class, args);
+    }
+
+    /**
+     * A common view of the compared queues, which adds elements only if the queue is not full.
+     */
+    interface BoundedQueue {
+        boolean offer(Integer element);
+
+        Integer poll();
+
+        static BoundedQueue create(String implementation) {
+            return switch (implementation) {
+                case "spsc" -> of(new SpscArrayQueue<>(CAPACITY));
+                case "mpsc" -> of(new MpscArrayQueue<>(CAPACITY));
+                default -> new SynchronizedLinkedQueue(new LinkedQueue<>());
+            };
+        }
+
+        private static BoundedQueue of(SpscArrayQueue<Integer> queue) {
+            return new BoundedQueue() {
+                @Override
+                public boolean offer(Integer element) {
+                    return queue.offer(element);
+                }
+
+                @Override
+                public Integer poll() {
+                    return queue.poll();
+                }
+            };
+        }
+
+        private static BoundedQueue of(MpscArrayQueue<Integer> queue) {
+            return new BoundedQueue() {
+                @Override
+                public boolean offer(Integer element) {
+                    return queue.offer(element);
+                }
+
+                @Override
+                public Integer poll() {
+                    return queue.poll();
+                }
+            };
+        }
+    }
+
+    /**
+     * A {@link LinkedQueue} that serializes all operations using a single lock and rejects elements when its size
+     * reaches the same capacity as the lock-free queues have.
+     */
+    static class SynchronizedLinkedQueue implements BoundedQueue {
+        private final Queue<Integer> queue;
+
+        SynchronizedLinkedQueue(Queue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public synchronized boolean offer(Integer element) {
+            if (queue.size() >= CAPACITY) {
+                return false;
+            }
+            queue.add(element);
+            return true;
+        }
+
+        @Override
+        public synchronized Integer poll() {
+            return queue.poll();
+        }
+    }
+}
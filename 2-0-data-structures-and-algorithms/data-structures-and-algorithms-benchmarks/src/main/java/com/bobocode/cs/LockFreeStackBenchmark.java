@@ -0,0 +1,92 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A throughput comparison of {@link LockFreeStack} with and without elimination array, and {@link LinkedStack}
+ * guarded by a single lock. Every thread pushes an element and pops one right after it, so all threads compete for
+ * the top of the stack. Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class LockFreeStackBenchmark {
+    private static final int INITIAL_SIZE = 1_000;
+
+    @Param({"lockFree", "lockFreeWithoutElimination", "synchronized"})
+    private String implementation;
+
+    private Stack<Integer> stack;
+
+    @Setup
+    public void setUp() {
+        stack = switch (implementation) {
+            case "lockFree" -> new LockFreeStack<>();
+            case "lockFreeWithoutElimination" -> new LockFreeStack<>(0);
+            default -> new SynchronizedStack<>(new LinkedStack<>());
+        };
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(42);
+        return stack.pop();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(LockFreeStackBenchmark.class, args);
+    }
+
+    /**
+     * A {@link Stack} wrapper that serializes all operations using a single lock.
+     */
+    static class SynchronizedStack<T> implements Stack<T> {
+        private final Stack<T> stack;
+
+        SynchronizedStack(Stack<T> stack) {
+            this.stack = stack;
+        }
+
+        @Override
+        public synchronized void push(T element) {
+            stack.push(element);
+        }
+
+        @Override
+        public synchronized T pop() {
+            return stack.pop();
+        }
+
+        @Override
+        public synchronized int size() {
+            return stack.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return stack.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A comparison of single-threaded {@link Map} operations of all hash tables and {@link HashMap} as a baseline, for
+ * different sizes and {@link KeyDistribution}s. {@code put} builds a new map of all keys, so its score is the time of
+ * the whole build. Lookups are measured per operation. Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    public enum Implementation {
+        HASH_TABLE(HashTable::new),
+        INCREMENTAL_HASH_TABLE(() -> new HashTable<>(16, true)),
+        OPEN_ADDRESSING_HASH_TABLE(OpenAddressingHashTable::new),
+        CONCURRENT_HASH_TABLE(ConcurrentHashTable::new),
+        JAVA_HASH_MAP(JavaHashMap::new);
+
+        private final Supplier<Map<Integer, Integer>> factory;
+
+        Implementation(Supplier<Map<Integer, Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Implementation implementation;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param
+    private KeyDistribution distribution;
+
+    private Integer[] keys;
+    private Integer[] presentKeys;
+    private Integer[] absentKeys;
+    private Map<Integer, Integer> map;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        keys = distribution.keys(size, random);
+        presentKeys = KeyDistribution.sample(keys, LOOKUPS, random);
+        absentKeys = KeyDistribution.absentKeys(keys, LOOKUPS, random);
+        map = fill();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Map<Integer, Integer> put() {
+        return fill();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int getPresent() {
+        return countFound(presentKeys);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int getAbsent() {
+        return countFound(absentKeys);
+    }
+
+    private Map<Integer, Integer> fill() {
+        var newMap = implementation.factory.get();
+        for (var key : keys) {
+            newMap.put(key, key);
+        }
+        return newMap;
+    }
+
+    private int countFound(Integer[] lookups) {
+        int found = 0;
+        for (var key : lookups) {
+            if (map.get(key) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(MapBenchmark.class, args);
+    }
+
+    static class JavaHashMap<K, V> implements Map<K, V> {
+        private final HashMap<K, V> map = new HashMap<>();
+
+        @Override
+        public V put(K key, V value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public V get(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(K key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(V value) {
+            return map.containsValue(value);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public V remove(K key) {
+            return map.remove(key);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A single-threaded comparison of all queue implementations and {@link ArrayDeque} as a baseline. Every invocation
+ * adds size elements to the same queue and then polls all of them, so the score is the time of the whole cycle.
+ * Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+    // bounded queues should hold the largest size
+    private static final int CAPACITY = 1 << 14;
+
+    public enum Implementation {
+        LINKED_QUEUE(LinkedQueue::new),
+        RECYCLING_LINKED_QUEUE(() -> new LinkedQueue<>(1024)),
+        RING_BUFFER_QUEUE(() -> new RingBufferQueue<>(CAPACITY)),
+        SPSC_ARRAY_QUEUE(() -> new SpscArrayQueue<>(CAPACITY)),
+        MPSC_ARRAY_QUEUE(() -> new MpscArrayQueue<>(CAPACITY)),
+        PERSISTENT_QUEUE(PersistentQueue::new),
+        ARRAY_DEQUE(ArrayDequeQueue::new);
+
+        private final Supplier<Queue<Integer>> factory;
+
+        Implementation(Supplier<Queue<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Implementation implementation;
+
+    @Param({"16", "10000"})
+    private int size;
+
+    private Integer[] elements;
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        queue = implementation.factory.get();
+    }
+
+    @Benchmark
+    public long addAndPoll() {
+        for (var element : elements) {
+            queue.add(element);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(QueueBenchmark.class, args);
+    }
+
+    static class ArrayDequeQueue<T> implements Queue<T> {
+        private final ArrayDeque<T> deque = new ArrayDeque<>();
+
+        @Override
+        public void add(T element) {
+            deque.add(element);
+        }
+
+        @Override
+        public T poll() {
+            return deque.poll();
+        }
+
+        @Override
+        public int size() {
+            return deque.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return deque.isEmpty();
+        }
+    }
+}
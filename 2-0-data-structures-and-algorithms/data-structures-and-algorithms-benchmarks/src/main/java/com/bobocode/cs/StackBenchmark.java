@@ -0,0 +1,105 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A single-threaded comparison of all stack implementations and {@link ArrayDeque} as a baseline. Every invocation
+ * pushes size elements to the same stack and then pops all of them, so the score is the time of the whole cycle.
+ * Run it using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+
+    public enum Implementation {
+        LINKED_STACK(LinkedStack::new),
+        RECYCLING_LINKED_STACK(() -> new LinkedStack<>(1024)),
+        LOCK_FREE_STACK(LockFreeStack::new),
+        PERSISTENT_STACK(PersistentStack::new),
+        ARRAY_DEQUE(ArrayDequeStack::new);
+
+        private final Supplier<Stack<Integer>> factory;
+
+        Implementation(Supplier<Stack<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Implementation implementation;
+
+    @Param({"16", "10000"})
+    private int size;
+
+    private Integer[] elements;
+    private Stack<Integer> stack;
+
+    @Setup
+    public void setUp() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        stack = implementation.factory.get();
+    }
+
+    @Benchmark
+    public long pushAndPop() {
+        for (var element : elements) {
+            stack.push(element);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        BenchmarkRunner.run(StackBenchmark.class, args);
+    }
+
+    static class ArrayDequeStack<T> implements Stack<T> {
+        private final ArrayDeque<T> deque = new ArrayDeque<>();
+
+        @Override
+        public void push(T element) {
+            deque.push(element);
+        }
+
+        @Override
+        public T pop() {
+            return deque.pop();
+        }
+
+        @Override
+        public int size() {
+            return deque.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return deque.isEmpty();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.bobocode.cs;
 
 
-public interface List<T> {
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +26,25 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Returns a sequential stream over the list elements. It is based on {@link List#spliterator()}, so
+     * an implementation should override it and report the exact size of the list.
+     *
+     * @return a sequential stream
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the list elements. The work is divided using {@link java.util.Spliterator#trySplit()},
+     * so it is split efficiently only if an implementation provides a spliterator that reports
+     * {@link java.util.Spliterator#SIZED} and {@link java.util.Spliterator#SUBSIZED} characteristics.
+     *
+     * @return a parallel stream
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,171 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Checks the iteration contract of {@link List}: the order of elements, fail-fast iterators and spliterators, and
+ * streams. A module extends it and provides its own lists via {@link AbstractListIterationTest#lists()}.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class AbstractListIterationTest {
+    private static final int SIZE = 10_000;
+
+    /**
+     * @return arguments of a name of a list and a {@link Supplier} of empty lists of {@link Integer}
+     */
+    protected abstract Stream<Arguments> lists();
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("for-each loop visits all elements in order")
+    void forEachLoop(String name, Supplier<List<Integer>> listSupplier) {
+        var list = fill(listSupplier.get(), SIZE);
+
+        int expected = 0;
+        for (int element : list) {
+            assertThat(element).isEqualTo(expected++);
+        }
+        assertThat(expected).isEqualTo(SIZE);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("iterator throws NoSuchElementException when there are no more elements")
+    void iteratorEnd(String name, Supplier<List<Integer>> listSupplier) {
+        var iterator = fill(listSupplier.get(), 1).iterator();
+
+        iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("iterator fails fast when the list is structurally modified")
+    void iteratorFailsFast(String name, Supplier<List<Integer>> listSupplier) {
+        var list = fill(listSupplier.get(), 3);
+        var iterator = list.iterator();
+        iterator.next();
+
+        list.add(3);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("iterator does not fail when an element is changed using set")
+    void iteratorAllowsSet(String name, Supplier<List<Integer>> listSupplier) {
+        var list = fill(listSupplier.get(), 3);
+        var iterator = list.iterator();
+
+        list.set(1, 10);
+        iterator.next();
+
+        assertThat(iterator.next()).isEqualTo(10);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("spliterator reports exact size and splits into non-empty parts")
+    void spliteratorSplits(String name, Supplier<List<Integer>> listSupplier) {
+        var spliterator = fill(listSupplier.get(), SIZE).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(SIZE);
+
+        var prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(SIZE);
+        assertThat(prefix.estimateSize()).isPositive();
+        assertThat(spliterator.estimateSize()).isPositive();
+        var first = new int[1];
+        prefix.tryAdvance(element -> first[0] = element);
+        assertThat(first[0]).isZero();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("spliterator fails fast when the list is structurally modified")
+    void spliteratorFailsFast(String name, Supplier<List<Integer>> listSupplier) {
+        var list = fill(listSupplier.get(), 3);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> list.spliterator().forEachRemaining(element -> list.remove(0)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("spliterator created before a removal fails fast instead of visiting unlinked elements")
+    void spliteratorCreatedBeforeRemovalFailsFast(String name, Supplier<List<Integer>> listSupplier) {
+        var list = fill(listSupplier.get(), 10);
+        var spliterator = list.spliterator();
+        var anotherSpliterator = list.spliterator();
+
+        list.remove(9);
+        list.remove(8);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> spliterator.forEachRemaining(element -> {
+                }));
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> {
+                    while (anotherSpliterator.tryAdvance(element -> {
+                    })) {
+                    }
+                });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("spliterator split after a structural modification fails fast in both parts")
+    void spliteratorSplitAfterModificationFailsFast(String name, Supplier<List<Integer>> listSupplier) {
+        var list = fill(listSupplier.get(), SIZE);
+        var spliterator = list.spliterator();
+
+        list.add(SIZE);
+
+        // a spliterator may fail either when it's split or when the prefix is traversed
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> spliterator.trySplit().forEachRemaining(element -> {
+                }));
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> spliterator.forEachRemaining(element -> {
+                }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    @DisplayName("stream and parallelStream give the same result as a loop")
+    void streams(String name, Supplier<List<Integer>> listSupplier) {
+        var list = fill(listSupplier.get(), SIZE);
+        long expectedSum = (long) SIZE * (SIZE - 1) / 2;
+
+        assertThat(list.stream().mapToLong(Integer::longValue).sum()).isEqualTo(expectedSum);
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(expectedSum);
+        assertThat(list.parallelStream().toList()).containsExactlyElementsOf(IntStream.range(0, SIZE).boxed().toList());
+    }
+
+    private static List<Integer> fill(List<Integer> list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -1,11 +1,38 @@
 package com.bobocode.se;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name.
+ * <p>
+ * Files are read as UTF-8 through memory-mapped regions. Pure ASCII files are not decoded at all: ASCII is detected by
+ * checking 8 bytes at a time, and the bytes are copied once into a {@code byte[]} and once more into a {@link String}
+ * as Latin-1, which is the compact representation of a {@link String}. Other files are decoded straight from the
+ * mapped regions into a {@code char[]}, that is sized by counting the chars the UTF-8 bytes encode, and the
+ * {@link String} is created from it once.
+ * Large files, that should not be held on heap at all, are read lazily line by line using
+ * {@link FileReaders#lines(Path)}.
  */
 public class FileReaders {
+    // a single mapping can not be larger than Integer.MAX_VALUE bytes
+    private static final long REGION_SIZE = 1 << 30;
+    private static final long NON_ASCII_BITS = 0x8080808080808080L;
+    // the largest array the JVM allocates, that is also the largest length of a String
+    static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+    // a String that has a char outside of Latin-1 takes two bytes per char
+    private static final int MAX_UTF16_LENGTH = Integer.MAX_VALUE >> 1;
 
     /**
      * Returns a {@link String} that contains whole text from the file specified by name.
@@ -14,6 +41,166 @@ public class FileReaders {
      * @return string that holds whole file content
      */
     public static String readWholeFile(String fileName) {
-        throw new ExerciseNotCompletedException(); //todo
+        return readWholeFile(createPathFromFileName(fileName));
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file. Malformed input is replaced with
+     * U+FFFD.
+     *
+     * @param file a path to a text file
+     * @return string that holds whole file content
+     * @throws FileReaderException if the file can not be read or does not fit into a {@link String}
+     */
+    public static String readWholeFile(Path file) {
+        return readWholeFile(file, REGION_SIZE);
+    }
+
+    static String readWholeFile(Path file, long regionSize) {
+        try (var channel = FileChannel.open(file)) {
+            long size = channel.size();
+            if (size > MAX_LENGTH) {
+                throw new FileReaderException("File " + file + " of " + size + " bytes does not fit into a String");
+            }
+            if (size <= regionSize) {
+                var bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                if (isAscii(bytes)) {
+                    var content = new byte[(int) size];
+                    bytes.get(content);
+                    // ASCII is a subset of both UTF-8 and Latin-1
+                    return new String(content, StandardCharsets.ISO_8859_1);
+                }
+            }
+            long length = charCount(channel, size, regionSize);
+            if (length > MAX_UTF16_LENGTH) {
+                throw new FileReaderException("File " + file + " of " + length + " chars does not fit into a String");
+            }
+            var content = decode(channel, size, regionSize, CharBuffer.allocate((int) length));
+            return new String(content.array(), 0, content.position());
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot read file " + file, e);
+        }
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of lines of the file specified by name. The file is read while the stream is
+     * consumed, so only the current line is held on heap. The stream should be closed to release the file.
+     *
+     * @param fileName a name of a text file
+     * @return a stream of file lines
+     */
+    public static Stream<String> lines(String fileName) {
+        return lines(createPathFromFileName(fileName));
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of lines of the file. The file is read while the stream is consumed, so only the
+     * current line is held on heap. A parallel stream splits the file by memory-mapped byte ranges. The stream should
+     * be closed to release the file.
+     *
+     * @param file a path to a text file
+     * @return a stream of file lines
+     * @throws FileReaderException if the file can not be opened
+     * @throws UncheckedIOException if the file can not be read while the stream is consumed
+     */
+    public static Stream<String> lines(Path file) {
+        try {
+            return Files.lines(file);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot create stream of file lines " + file, e);
+        }
+    }
+
+    /**
+     * Decodes the file into the buffer, and returns the buffer that holds the chars. The buffer is replaced with a
+     * larger one if malformed input is replaced with more chars than counted.
+     */
+    private static CharBuffer decode(FileChannel channel, long size, long regionSize, CharBuffer chars) throws IOException {
+        var decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        long position = 0;
+        do {
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+            boolean lastRegion = position + region.limit() == size;
+            while (decoder.decode(region, chars, lastRegion).isOverflow()) {
+                chars = grow(chars);
+            }
+            // an incomplete character at the end of a region is decoded again at the beginning of the next one
+            position += region.position();
+        } while (position < size);
+        while (decoder.flush(chars).isOverflow()) {
+            chars = grow(chars);
+        }
+        return chars;
+    }
+
+    private static long charCount(FileChannel channel, long size, long regionSize) throws IOException {
+        long count = 0;
+        for (long position = 0; position < size; position += regionSize) {
+            count += charCount(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position)));
+        }
+        return count;
+    }
+
+    /**
+     * Counts the chars that valid UTF-8 bytes of the buffer decode to. Every byte, except a continuation byte, starts
+     * a character, and a 4-byte character takes two chars (a surrogate pair).
+     */
+    static long charCount(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        long count = 0;
+        for (int i = 0; i < limit; i++) {
+            byte b = bytes.get(i);
+            if ((b & 0xC0) != 0x80) {
+                count++;
+            }
+            if ((b & 0xF8) == 0xF0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether all bytes of the buffer are ASCII, i.e. have the highest bit cleared. The bytes are checked a word
+     * at a time, so 8 bytes take a single comparison.
+     */
+    static boolean isAscii(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        int i = 0;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+            if ((bytes.getLong(i) & NON_ASCII_BITS) != 0) {
+                return false;
+            }
+        }
+        for (; i < limit; i++) {
+            if (bytes.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CharBuffer grow(CharBuffer chars) {
+        int capacity = chars.capacity();
+        if (capacity == MAX_UTF16_LENGTH) {
+            throw new FileReaderException("Decoded file does not fit into a String");
+        }
+        var grown = CharBuffer.allocate((int) Math.min(capacity + (capacity >> 1) + 16L, MAX_UTF16_LENGTH));
+        return grown.put(chars.flip());
+    }
+
+    private static Path createPathFromFileName(String fileName) {
+        Objects.requireNonNull(fileName);
+        var fileUrl = FileReaders.class.getClassLoader().getResource(fileName);
+        if (fileUrl == null) {
+            throw new FileReaderException("File " + fileName + " is not found");
+        }
+        try {
+            return Path.of(fileUrl.toURI());
+        } catch (URISyntaxException e) {
+            throw new FileReaderException("Invalid file URL " + fileUrl, e);
+        }
     }
 }
@@ -1,8 +1,23 @@
 package com.bobocode.se;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileReadersTest {
 
@@ -31,4 +46,77 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testReadWholeFileOnNonExistingFile() {
+        assertThrows(FileReaderException.class, () -> FileReaders.readWholeFile("blahblah.txt"));
+    }
+
+    @Test
+    void testReadWholeFileWithMultiByteCharacters(@TempDir Path directory) throws IOException {
+        String expected = IntStream.range(0, 5_000)
+                .mapToObj(i -> "рядок " + i + " \uD83D\uDE00 ñ\n")
+                .collect(Collectors.joining());
+        Path file = Files.writeString(directory.resolve("utf8.txt"), expected, StandardCharsets.UTF_8);
+
+        assertEquals(expected, FileReaders.readWholeFile(file));
+        // small regions split multi-byte characters between mappings
+        assertEquals(expected, FileReaders.readWholeFile(file, 7));
+    }
+
+    @Test
+    void testReadWholeFileThatDoesNotFitIntoString(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("huge.txt");
+        // a sparse file, so it does not take any disk space
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                StandardOpenOption.SPARSE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'a'}), FileReaders.MAX_LENGTH);
+        }
+
+        assertThrows(FileReaderException.class, () -> FileReaders.readWholeFile(file));
+    }
+
+    @Test
+    void testLines() {
+        try (var lines = FileReaders.lines("lines.txt")) {
+            assertEquals(List.of("Hey!", "", "What's up?", "", "Hi!"), lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testReadWholeFileWithNonAsciiCharacterAfterAsciiText(@TempDir Path directory) throws IOException {
+        String expected = "a".repeat(1_000) + "é" + "b".repeat(13);
+        Path file = Files.writeString(directory.resolve("mixed.txt"), expected, StandardCharsets.UTF_8);
+
+        assertEquals(expected, FileReaders.readWholeFile(file));
+    }
+
+    @Test
+    void testReadWholeFileWithMalformedInput(@TempDir Path directory) throws IOException {
+        // lone continuation bytes are not counted as chars, but each of them is replaced with U+FFFD
+        byte[] bytes = {'a', (byte) 0x80, (byte) 0x80, (byte) 0x80, 'b', (byte) 0xC3};
+        Path file = Files.write(directory.resolve("malformed.txt"), bytes);
+
+        assertEquals("a\uFFFD\uFFFD\uFFFDb\uFFFD", FileReaders.readWholeFile(file));
+        assertEquals("a\uFFFD\uFFFD\uFFFDb\uFFFD", FileReaders.readWholeFile(file, 2));
+    }
+
+    @Test
+    void testCharCount() {
+        String text = "a ñ рядок \uD83D\uDE00 €";
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(text.length(), FileReaders.charCount(bytes));
+    }
+
+    @Test
+    void testIsAscii() {
+        byte[] bytes = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(FileReaders.isAscii(ByteBuffer.wrap(bytes)));
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] nonAscii = bytes.clone();
+            nonAscii[i] = (byte) 0x80;
+            assertFalse(FileReaders.isAscii(ByteBuffer.wrap(nonAscii)));
+        }
+    }
 }
@@ -0,0 +1,185 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+/**
+ * {@link CorpusStats} provides character statistic of all text files in a directory. The statistic of every file is
+ * calculated by {@link FileStats}, and the histograms of all files are merged into a single {@link FileStats}, so
+ * queries about the whole corpus take O(1).
+ * <p>
+ * Files are counted concurrently on a {@link ForkJoinPool}, which parallelism bounds the number of files and file
+ * chunks counted at the same time. The statistic of every file is cached by its path, last modified time and size, so
+ * a repeated scan counts only new and changed files.
+ * <p>
+ * A text usually has a few hundred distinct chars, so the cache keeps only the chars that occur in a file and their
+ * counts, instead of a histogram of all 65536 chars. Files are split into a few batches per thread, and every batch
+ * adds the counts of its files to a single histogram, so the cost of a small file does not depend on the alphabet
+ * size.
+ */
+public class CorpusStats {
+    private static final int ALPHABET_SIZE = Character.MAX_VALUE + 1;
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final Map<Path, CachedFileStats> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link CorpusStats} that counts files on {@link ForkJoinPool#commonPool()}.
+     */
+    public CorpusStats() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link CorpusStats} that counts files on the given pool.
+     *
+     * @param pool a pool that counts files
+     */
+    public CorpusStats(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Returns statistic of all regular files in the directory and its subdirectories.
+     *
+     * @param directory a root directory of the corpus
+     * @return statistic of all files
+     * @throws FileStatsException if the directory or some file can not be read
+     */
+    public FileStats scan(Path directory) {
+        return scan(directory, "**");
+    }
+
+    /**
+     * Returns statistic of regular files in the directory and its subdirectories, which paths relative to the
+     * directory match the glob, e.g. {@code "**.log"}.
+     *
+     * @param directory a root directory of the corpus
+     * @param glob      a glob pattern, see {@link java.nio.file.FileSystem#getPathMatcher(String)}
+     * @return statistic of the matching files
+     * @throws FileStatsException if the directory or some file can not be read
+     */
+    public FileStats scan(Path directory, String glob) {
+        var root = directory.toAbsolutePath().normalize();
+        var matcher = root.getFileSystem().getPathMatcher("glob:" + glob);
+        List<Path> files;
+        try (var paths = Files.walk(root)) {
+            files = paths.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(root.relativize(file)))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot walk directory " + directory, e);
+        } catch (UncheckedIOException e) {
+            throw new FileStatsException("Cannot walk directory " + directory, e.getCause());
+        }
+        int batchSize = Math.max(1, files.size() / (pool.getParallelism() * BATCHES_PER_THREAD));
+        var counts = pool.invoke(new ScanTask(files, 0, files.size(), batchSize));
+        var scanned = new HashSet<>(files);
+        // deleted files should not be kept in the cache
+        cache.keySet().removeIf(file -> file.startsWith(root) && !scanned.contains(file) && Files.notExists(file));
+        return new FileStats(counts);
+    }
+
+    private Histogram histogramOf(Path file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read attributes of file " + file, e);
+        }
+        var cached = cache.get(file);
+        if (cached != null && cached.isUpToDate(attributes)) {
+            return cached.histogram();
+        }
+        // attributes are read before the file, so a file modified during counting is counted again on the next scan
+        var histogram = Histogram.of(FileStats.countChars(file, pool));
+        cache.put(file, new CachedFileStats(attributes.lastModifiedTime(), attributes.size(), histogram));
+        return histogram;
+    }
+
+    private record CachedFileStats(FileTime lastModifiedTime, long size, Histogram histogram) {
+        boolean isUpToDate(BasicFileAttributes attributes) {
+            return lastModifiedTime.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+
+    /**
+     * Counts of the chars that occur in a file, in the increasing order of chars.
+     */
+    private record Histogram(char[] chars, long[] counts) {
+        static Histogram of(long[] counts) {
+            int distinct = 0;
+            for (long count : counts) {
+                if (count != 0) {
+                    distinct++;
+                }
+            }
+            var chars = new char[distinct];
+            var nonZeroCounts = new long[distinct];
+            for (int c = 0, i = 0; i < distinct; c++) {
+                if (counts[c] != 0) {
+                    chars[i] = (char) c;
+                    nonZeroCounts[i++] = counts[c];
+                }
+            }
+            return new Histogram(chars, nonZeroCounts);
+        }
+
+        void addTo(long[] counts) {
+            for (int i = 0; i < chars.length; i++) {
+                counts[chars[i]] += this.counts[i];
+            }
+        }
+    }
+
+    /**
+     * Counts a range of files. A range larger than a batch is split in halves, and the histograms of the halves are
+     * merged. A batch adds the histograms of its files to a single accumulator.
+     */
+    private class ScanTask extends RecursiveTask<long[]> {
+        private final List<Path> files;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+
+        ScanTask(List<Path> files, int from, int to, int batchSize) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= batchSize) {
+                var counts = new long[ALPHABET_SIZE];
+                for (int i = from; i < to; i++) {
+                    histogramOf(files.get(i)).addTo(counts);
+                }
+                return counts;
+            }
+            int middle = (from + to) >>> 1;
+            var left = new ScanTask(files, from, middle, batchSize);
+            left.fork();
+            var counts = new ScanTask(files, middle, to, batchSize).compute();
+            long[] leftCounts = left.join();
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                counts[c] += leftCounts[c];
+            }
+            return counts;
+        }
+    }
+}
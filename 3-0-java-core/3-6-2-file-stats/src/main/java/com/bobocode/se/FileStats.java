@@ -1,12 +1,52 @@
 package com.bobocode.se;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * A file is read as UTF-8 and counted in parallel. It is split into byte ranges, that start at character boundaries,
+ * and every range is decoded and counted into its own histogram on a {@link ForkJoinPool}. The histograms are primitive
+ * arrays indexed by char, that are merged when the ranges are joined. Characters outside the Basic Multilingual Plane
+ * are counted as two surrogate chars.
+ * <p>
+ * ASCII text is counted without decoding. A range is read 8 bytes at a time, and while none of them has the highest bit
+ * set, the bytes are counted as chars directly. Only the text around non-ASCII bytes is decoded.
  */
 public class FileStats {
+    static final long DEFAULT_CHUNK_SIZE = 1 << 23;
+    private static final int ALPHABET_SIZE = Character.MAX_VALUE + 1;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int DECODE_WINDOW = 4096;
+    private static final long NON_ASCII_BITS = 0x8080808080808080L;
+
+    private final long[] counts;
+    private final int mostPopularCharacter;
+
+    FileStats(long[] counts) {
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            if (Character.isWhitespace(c)) {
+                counts[c] = 0;
+            }
+        }
+        this.counts = counts;
+        this.mostPopularCharacter = findMostPopularCharacter(counts);
+    }
+
     /**
      * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
      *
@@ -14,7 +54,57 @@ public class FileStats {
      * @return new FileStats object created from text file
      */
     public static FileStats from(String fileName) {
-        throw new ExerciseNotCompletedException(); //todo
+        return from(createPathFromFileName(fileName));
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} object using data from the text file. The file is counted on
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param file a path to a text file
+     * @return new FileStats object created from text file
+     * @throws FileStatsException if the file can not be read
+     */
+    public static FileStats from(Path file) {
+        return from(file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} object using data from the text file. The file is counted on the given
+     * pool, so its parallelism limits the number of ranges counted at the same time.
+     *
+     * @param file a path to a text file
+     * @param pool a pool that counts ranges of the file
+     * @return new FileStats object created from text file
+     * @throws FileStatsException if the file can not be read
+     */
+    public static FileStats from(Path file, ForkJoinPool pool) {
+        return from(file, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    static FileStats from(Path file, ForkJoinPool pool, long chunkSize) {
+        return new FileStats(countChars(file, pool, chunkSize));
+    }
+
+    /**
+     * Counts every char of the file, including whitespaces, without creating a {@link FileStats}.
+     *
+     * @return a histogram indexed by char
+     */
+    static long[] countChars(Path file, ForkJoinPool pool) {
+        return countChars(file, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    private static long[] countChars(Path file, ForkJoinPool pool, long chunkSize) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(pool);
+        try (var channel = FileChannel.open(file)) {
+            return pool.invoke(new CountTask(channel, 0, channel.size(), chunkSize));
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + file, e);
+        } catch (UncheckedIOException e) {
+            throw new FileStatsException("Cannot read file " + file, e.getCause());
+        }
     }
 
     /**
@@ -22,18 +112,33 @@ public class FileStats {
      *
      * @param character a specific character
      * @return a number that shows how many times this character appeared in a text file
+     * @throws ArithmeticException if the number does not fit into an int, use {@link FileStats#getLongCharCount(char)}
      */
     public int getCharCount(char character) {
-        throw new ExerciseNotCompletedException(); //todo
+        return Math.toIntExact(counts[character]);
+    }
+
+    /**
+     * Returns a number of occurrences of the particular character.
+     *
+     * @param character a specific character
+     * @return a number that shows how many times this character appeared in a text file
+     */
+    public long getLongCharCount(char character) {
+        return counts[character];
     }
 
     /**
      * Returns a character that appeared most often in the text.
      *
      * @return the most frequently appeared character
+     * @throws NoSuchElementException if the text has no characters except whitespaces
      */
     public char getMostPopularCharacter() {
-        throw new ExerciseNotCompletedException(); //todo
+        if (mostPopularCharacter < 0) {
+            throw new NoSuchElementException("File has no characters");
+        }
+        return (char) mostPopularCharacter;
     }
 
     /**
@@ -43,6 +148,154 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        throw new ExerciseNotCompletedException(); //todo
+        return counts[character] > 0;
+    }
+
+    long[] counts() {
+        return counts;
+    }
+
+    private static int findMostPopularCharacter(long[] counts) {
+        int mostPopular = -1;
+        long maxCount = 0;
+        for (int c = 0; c < counts.length; c++) {
+            if (counts[c] > maxCount) {
+                maxCount = counts[c];
+                mostPopular = c;
+            }
+        }
+        return mostPopular;
+    }
+
+    private static Path createPathFromFileName(String fileName) {
+        Objects.requireNonNull(fileName);
+        var fileUrl = FileStats.class.getClassLoader().getResource(fileName);
+        if (fileUrl == null) {
+            throw new FileStatsException("File " + fileName + " is not found");
+        }
+        try {
+            return Path.of(fileUrl.toURI());
+        } catch (URISyntaxException e) {
+            throw new FileStatsException("Invalid file URL " + fileUrl, e);
+        }
+    }
+
+    /**
+     * Counts characters of a byte range of a file. A range larger than the chunk size is split in halves, and the
+     * histograms of the halves are merged.
+     */
+    private static class CountTask extends RecursiveTask<long[]> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final long chunkSize;
+
+        CountTask(FileChannel channel, long start, long end, long chunkSize) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected long[] compute() {
+            try {
+                if (end - start <= chunkSize) {
+                    return count();
+                }
+                long middle = alignToCharacter(start + (end - start) / 2);
+                if (middle >= end) {
+                    return count();
+                }
+                var left = new CountTask(channel, start, middle, chunkSize);
+                left.fork();
+                long[] counts = new CountTask(channel, middle, end, chunkSize).compute();
+                long[] leftCounts = left.join();
+                for (int c = 0; c < ALPHABET_SIZE; c++) {
+                    counts[c] += leftCounts[c];
+                }
+                return counts;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Moves the position forward to the first byte, that is not a UTF-8 continuation byte {@code 10xxxxxx}. A
+         * character is at most 4 bytes long, so at most 3 bytes are skipped.
+         */
+        private long alignToCharacter(long position) throws IOException {
+            var bytes = ByteBuffer.allocate(3);
+            channel.read(bytes, position);
+            for (int i = 0; i < bytes.position(); i++) {
+                if ((bytes.get(i) & 0xC0) != 0x80) {
+                    return position + i;
+                }
+            }
+            return position + bytes.position();
+        }
+
+        private long[] count() throws IOException {
+            long[] counts = new long[ALPHABET_SIZE];
+            var decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            var bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            var chars = CharBuffer.allocate(BUFFER_SIZE);
+            int limit = bytes.limit();
+            while (countAscii(bytes, counts)) {
+                // a character cut at the end of the window is left in the buffer and decoded with the next window
+                bytes.limit(Math.min(bytes.position() + DECODE_WINDOW, limit));
+                decode(decoder, bytes, chars, false, counts);
+                bytes.limit(limit);
+            }
+            // the tail shorter than a word
+            decode(decoder, bytes, chars, true, counts);
+            while (decoder.flush(chars).isOverflow()) {
+                drain(chars, counts);
+            }
+            drain(chars, counts);
+            return counts;
+        }
+
+        /**
+         * Counts bytes a word at a time while all bytes of a word are ASCII. ASCII bytes are chars of the same value,
+         * so they are counted without decoding.
+         *
+         * @return {@code true} if it stopped at a word with a non-ASCII byte, or {@code false} if it stopped at the
+         * tail shorter than a word
+         */
+        private static boolean countAscii(ByteBuffer bytes, long[] counts) {
+            int limit = bytes.limit();
+            int i = bytes.position();
+            for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+                long word = bytes.getLong(i);
+                if ((word & NON_ASCII_BITS) != 0) {
+                    bytes.position(i);
+                    return true;
+                }
+                for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                    counts[(int) (word >>> shift) & 0x7F]++;
+                }
+            }
+            bytes.position(i);
+            return false;
+        }
+
+        private static void decode(CharsetDecoder decoder, ByteBuffer bytes, CharBuffer chars, boolean endOfInput,
+                                   long[] counts) {
+            while (decoder.decode(bytes, chars, endOfInput).isOverflow()) {
+                drain(chars, counts);
+            }
+            drain(chars, counts);
+        }
+
+        private static void drain(CharBuffer chars, long[] counts) {
+            char[] buffer = chars.array();
+            for (int i = 0; i < chars.position(); i++) {
+                counts[buffer[i]]++;
+            }
+            chars.clear();
+        }
     }
 }
@@ -0,0 +1,181 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link FileStatsIndex} keeps {@link FileStats} of files in binary index files, so the statistic of an unchanged file
+ * is loaded without reading the file itself. An index is written either next to the file, as {@code <name>.stats}, or
+ * into a cache directory.
+ * <p>
+ * An index holds the size, the last modified time and a CRC32C hash of the file, followed by a fixed-size array of
+ * counts of every char. It is memory-mapped when it is loaded. The index is used if the size and the last modified
+ * time are the same. If only the last modified time differs, the hash of the file is compared, so a file that was
+ * touched but not changed is not counted again. Otherwise, the file is counted again and the index is rewritten.
+ */
+public class FileStatsIndex {
+    static final String SUFFIX = ".stats";
+    private static final int MAGIC = 0x46535458;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + 3 * Long.BYTES;
+    private static final int ALPHABET_SIZE = Character.MAX_VALUE + 1;
+    private static final int INDEX_SIZE = HEADER_SIZE + ALPHABET_SIZE * Long.BYTES;
+    private static final long REGION_SIZE = 1 << 30;
+
+    private final Path cacheDirectory;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a {@link FileStatsIndex} that writes indexes next to the files and counts files on
+     * {@link ForkJoinPool#commonPool()}.
+     */
+    public FileStatsIndex() {
+        this(null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link FileStatsIndex} that writes indexes into the cache directory and counts files on
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param cacheDirectory a directory for index files
+     */
+    public FileStatsIndex(Path cacheDirectory) {
+        this(Objects.requireNonNull(cacheDirectory), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link FileStatsIndex} that writes indexes into the cache directory, or next to the files if it is
+     * {@code null}, and counts files on the given pool.
+     *
+     * @param cacheDirectory a directory for index files or {@code null}
+     * @param pool           a pool that counts files
+     */
+    public FileStatsIndex(Path cacheDirectory, ForkJoinPool pool) {
+        this.cacheDirectory = cacheDirectory;
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Returns statistic of the file. It is loaded from the index if the file has not changed since the index was
+     * written. Otherwise, the file is counted and the index is written.
+     *
+     * @param file a path to a text file
+     * @return statistic of the file
+     * @throws FileStatsException if the file can not be read or the index can not be written
+     */
+    public FileStats from(Path file) {
+        var indexFile = indexFileOf(file);
+        try {
+            var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long lastModifiedTime = attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS);
+            var index = read(indexFile);
+            if (index != null && index.size() == attributes.size() && index.lastModifiedTime() == lastModifiedTime) {
+                return new FileStats(index.counts());
+            }
+            // the file is hashed before it is counted, so if it is modified in between, the hash does not match the
+            // new content, and the file is counted again next time
+            long hash = hash(file);
+            if (index != null && index.size() == attributes.size() && index.hash() == hash) {
+                write(indexFile, new Index(index.size(), lastModifiedTime, hash, index.counts()));
+                return new FileStats(index.counts());
+            }
+            var stats = count(file);
+            write(indexFile, new Index(attributes.size(), lastModifiedTime, hash, stats.counts()));
+            return stats;
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read statistic of file " + file, e);
+        }
+    }
+
+    FileStats count(Path file) {
+        return FileStats.from(file, pool);
+    }
+
+    Path indexFileOf(Path file) {
+        var absoluteFile = file.toAbsolutePath().normalize();
+        var fileName = absoluteFile.getFileName().toString();
+        if (cacheDirectory == null) {
+            return absoluteFile.resolveSibling(fileName + SUFFIX);
+        }
+        // files with the same name from different directories should not share an index
+        var directoryHash = Integer.toHexString(absoluteFile.getParent().toString().hashCode());
+        return cacheDirectory.resolve(fileName + "." + directoryHash + SUFFIX);
+    }
+
+    /**
+     * Returns the index, or {@code null} if it does not exist or is not valid.
+     */
+    private static Index read(Path indexFile) throws IOException {
+        if (!Files.isRegularFile(indexFile) || Files.size(indexFile) != INDEX_SIZE) {
+            return null;
+        }
+        try (var channel = FileChannel.open(indexFile)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, INDEX_SIZE);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long size = buffer.getLong();
+            long lastModifiedTime = buffer.getLong();
+            long hash = buffer.getLong();
+            var counts = new long[ALPHABET_SIZE];
+            buffer.asLongBuffer().get(counts);
+            return new Index(size, lastModifiedTime, hash, counts);
+        }
+    }
+
+    /**
+     * Writes the index into a temporary file and moves it into place, so a concurrent reader never sees a partially
+     * written index.
+     */
+    private static void write(Path indexFile, Index index) throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        var buffer = ByteBuffer.allocate(INDEX_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(index.size())
+                .putLong(index.lastModifiedTime())
+                .putLong(index.hash());
+        buffer.asLongBuffer().put(index.counts());
+        buffer.clear();
+        var temporaryFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temporaryFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static long hash(Path file) throws IOException {
+        var crc = new CRC32C();
+        try (var channel = FileChannel.open(file)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += REGION_SIZE) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(REGION_SIZE, size - position)));
+            }
+        }
+        return crc.getValue();
+    }
+
+    private record Index(long size, long lastModifiedTime, long hash, long[] counts) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CorpusStatsTest {
+    @TempDir
+    Path directory;
+
+    private final CorpusStats corpusStats = new CorpusStats();
+
+    @Test
+    void scanMergesAllFilesInSubdirectories() throws IOException {
+        Files.writeString(directory.resolve("a.txt"), "aab c");
+        Files.createDirectories(directory.resolve("logs/2023"));
+        Files.writeString(directory.resolve("logs/b.log"), "bbb\n");
+        Files.writeString(directory.resolve("logs/2023/c.txt"), "aaaa");
+
+        var stats = corpusStats.scan(directory);
+
+        assertThat(stats.getCharCount('a')).isEqualTo(6);
+        assertThat(stats.getCharCount('b')).isEqualTo(4);
+        assertThat(stats.getCharCount('c')).isEqualTo(1);
+        assertThat(stats.getMostPopularCharacter()).isEqualTo('a');
+        assertThat(stats.containsCharacter(' ')).isFalse();
+    }
+
+    @Test
+    void scanCountsOnlyFilesMatchingGlob() throws IOException {
+        Files.writeString(directory.resolve("a.txt"), "aa");
+        Files.createDirectories(directory.resolve("logs"));
+        Files.writeString(directory.resolve("logs/b.log"), "bbb");
+        Files.writeString(directory.resolve("logs/c.txt"), "c");
+
+        var stats = corpusStats.scan(directory, "**.txt");
+
+        assertThat(stats.getCharCount('a')).isEqualTo(2);
+        assertThat(stats.containsCharacter('b')).isFalse();
+        assertThat(stats.getCharCount('c')).isEqualTo(1);
+    }
+
+    @Test
+    void scanOfManyFilesAddsThemUpInBatches() throws IOException {
+        var pool = new ForkJoinPool(2);
+        try {
+            for (int i = 0; i < 100; i++) {
+                Files.writeString(directory.resolve(i + ".txt"), "a".repeat(i) + "\u0436" + (char) ('b' + i % 3));
+            }
+
+            var stats = new CorpusStats(pool).scan(directory);
+
+            assertThat(stats.getCharCount('a')).isEqualTo(99 * 100 / 2);
+            assertThat(stats.getCharCount('\u0436')).isEqualTo(100);
+            assertThat(stats.getCharCount('b')).isEqualTo(34);
+            assertThat(stats.getCharCount('c')).isEqualTo(33);
+            assertThat(stats.getCharCount('d')).isEqualTo(33);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void rescanSkipsUnchangedFilesAndCountsChangedOnes() throws IOException {
+        var unchanged = Files.writeString(directory.resolve("a.txt"), "aa");
+        var changed = Files.writeString(directory.resolve("b.txt"), "bb");
+        var lastModifiedTime = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(unchanged, lastModifiedTime);
+        corpusStats.scan(directory);
+
+        // the same size and last modified time, so the cached statistic is used
+        Files.writeString(unchanged, "zz");
+        Files.setLastModifiedTime(unchanged, lastModifiedTime);
+        Files.writeString(changed, "bbbb");
+        Files.writeString(directory.resolve("c.txt"), "c");
+        var stats = corpusStats.scan(directory);
+
+        assertThat(stats.getCharCount('a')).isEqualTo(2);
+        assertThat(stats.containsCharacter('z')).isFalse();
+        assertThat(stats.getCharCount('b')).isEqualTo(4);
+        assertThat(stats.getCharCount('c')).isEqualTo(1);
+    }
+
+    @Test
+    void scanOfDeletedFileDoesNotCountIt() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aa");
+        corpusStats.scan(directory);
+
+        Files.delete(file);
+
+        assertThat(corpusStats.scan(directory).containsCharacter('a')).isFalse();
+    }
+
+    @Test
+    void scanOfNonExistingDirectory() {
+        assertThatThrownBy(() -> corpusStats.scan(directory.resolve("blahblah")))
+                .isInstanceOf(FileStatsException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileStatsIndexTest {
+    private static final FileTime LAST_MODIFIED_TIME = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexIsWrittenNextToFile() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aab c");
+
+        var stats = new FileStatsIndex().from(file);
+
+        assertThat(stats.getCharCount('a')).isEqualTo(2);
+        assertThat(stats.getMostPopularCharacter()).isEqualTo('a');
+        assertThat(directory.resolve("a.txt" + FileStatsIndex.SUFFIX)).isRegularFile();
+    }
+
+    @Test
+    void indexIsWrittenIntoCacheDirectory() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aab c");
+        var cacheDirectory = directory.resolve("cache");
+        var index = new FileStatsIndex(cacheDirectory);
+
+        index.from(file);
+
+        assertThat(index.indexFileOf(file)).isRegularFile().hasParent(cacheDirectory);
+        assertThat(directory.resolve("a.txt" + FileStatsIndex.SUFFIX)).doesNotExist();
+    }
+
+    @Test
+    void unchangedFileIsLoadedFromIndex() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aa");
+        Files.setLastModifiedTime(file, LAST_MODIFIED_TIME);
+        var index = new FileStatsIndex();
+        index.from(file);
+
+        // the same size and last modified time, so the file is not read
+        Files.writeString(file, "bb");
+        Files.setLastModifiedTime(file, LAST_MODIFIED_TIME);
+        var stats = index.from(file);
+
+        assertThat(stats.getCharCount('a')).isEqualTo(2);
+        assertThat(stats.containsCharacter('b')).isFalse();
+    }
+
+    @Test
+    void touchedFileWithTheSameContentIsLoadedFromIndex() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aa");
+        Files.setLastModifiedTime(file, LAST_MODIFIED_TIME);
+        var index = new FileStatsIndex();
+        index.from(file);
+        var indexFile = index.indexFileOf(file);
+        var indexLastModifiedTime = FileTime.from(Instant.parse("2000-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(indexFile, indexLastModifiedTime);
+
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2021-01-01T00:00:00Z")));
+        var stats = index.from(file);
+
+        assertThat(stats.getCharCount('a')).isEqualTo(2);
+        // the index is updated with the new last modified time
+        assertThat(Files.getLastModifiedTime(indexFile)).isNotEqualTo(indexLastModifiedTime);
+    }
+
+    @Test
+    void changedFileIsCountedAgain() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aa");
+        Files.setLastModifiedTime(file, LAST_MODIFIED_TIME);
+        var index = new FileStatsIndex();
+        index.from(file);
+
+        Files.writeString(file, "bb");
+        var stats = index.from(file);
+
+        assertThat(stats.containsCharacter('a')).isFalse();
+        assertThat(stats.getCharCount('b')).isEqualTo(2);
+        assertThat(index.from(file).getCharCount('b')).isEqualTo(2);
+    }
+
+    @Test
+    void fileChangedWhileCountingIsCountedAgain() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aa");
+        var index = new FileStatsIndex() {
+            @Override
+            FileStats count(Path file) {
+                var stats = super.count(file);
+                try {
+                    // the same size, but a new content and last modified time
+                    Files.writeString(file, "bb");
+                    Files.setLastModifiedTime(file, LAST_MODIFIED_TIME);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return stats;
+            }
+        };
+        index.from(file);
+
+        var stats = new FileStatsIndex().from(file);
+
+        assertThat(stats.containsCharacter('a')).isFalse();
+        assertThat(stats.getCharCount('b')).isEqualTo(2);
+    }
+
+    @Test
+    void corruptedIndexIsIgnored() throws IOException {
+        var file = Files.writeString(directory.resolve("a.txt"), "aa");
+        var index = new FileStatsIndex();
+        Files.writeString(index.indexFileOf(file), "not an index");
+
+        assertThat(index.from(file).getCharCount('a')).isEqualTo(2);
+        assertThat(Files.size(index.indexFileOf(file))).isGreaterThan(Character.MAX_VALUE * Long.BYTES);
+    }
+}
@@ -0,0 +1,87 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileStatsParallelTest {
+
+    @Test
+    void smallChunksGiveTheSameStatsAsSingleChunk() throws URISyntaxException {
+        var file = Path.of(FileStatsParallelTest.class.getClassLoader().getResource("sotl.txt").toURI());
+
+        var pool = new ForkJoinPool(4);
+        var expected = FileStats.from(file, pool, Long.MAX_VALUE);
+        var actual = FileStats.from(file, pool, 100);
+        pool.shutdown();
+
+        for (char c = 0; c < 128; c++) {
+            assertThat(actual.getCharCount(c)).isEqualTo(expected.getCharCount(c));
+        }
+        assertThat(actual.getCharCount('a')).isEqualTo(2345);
+        assertThat(actual.getMostPopularCharacter()).isEqualTo('e');
+    }
+
+    @Test
+    void chunksAreAlignedToMultiByteCharacters(@TempDir Path directory) throws IOException {
+        String text = IntStream.range(0, 200)
+                .mapToObj(i -> "ї€😀ab\n")
+                .collect(Collectors.joining());
+        var file = Files.writeString(directory.resolve("utf8.txt"), text, StandardCharsets.UTF_8);
+        Map<Character, Long> expected = text.chars()
+                .filter(c -> !Character.isWhitespace(c))
+                .mapToObj(c -> (char) c)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        for (long chunkSize : new long[]{1, 2, 3, 5, 7, 64}) {
+            var stats = FileStats.from(file, ForkJoinPool.commonPool(), chunkSize);
+
+            expected.forEach((c, count) -> assertThat(stats.getLongCharCount(c)).isEqualTo(count));
+            assertThat(stats.containsCharacter('�')).isFalse();
+            assertThat(stats.containsCharacter('\n')).isFalse();
+        }
+    }
+
+    @Test
+    void asciiTextBetweenMultiByteCharactersIsCounted(@TempDir Path directory) throws IOException {
+        String text = "a".repeat(10_001) + "ñ" + "b".repeat(5_000) + "€€" + "c".repeat(20_000) + "😀" + "d".repeat(3);
+        var file = Files.writeString(directory.resolve("mixed.txt"), text, StandardCharsets.UTF_8);
+
+        for (long chunkSize : new long[]{Long.MAX_VALUE, 1_000, 13}) {
+            var stats = FileStats.from(file, ForkJoinPool.commonPool(), chunkSize);
+
+            assertThat(stats.getCharCount('a')).isEqualTo(10_001);
+            assertThat(stats.getCharCount('ñ')).isEqualTo(1);
+            assertThat(stats.getCharCount('b')).isEqualTo(5_000);
+            assertThat(stats.getCharCount('€')).isEqualTo(2);
+            assertThat(stats.getCharCount('c')).isEqualTo(20_000);
+            assertThat(stats.getCharCount('\uD83D')).isEqualTo(1);
+            assertThat(stats.getCharCount('d')).isEqualTo(3);
+            assertThat(stats.containsCharacter('�')).isFalse();
+        }
+    }
+
+    @Test
+    void emptyFileHasNoMostPopularCharacter(@TempDir Path directory) throws IOException {
+        var file = Files.writeString(directory.resolve("empty.txt"), " \n\t");
+
+        var stats = FileStats.from(file);
+
+        assertThat(stats.containsCharacter('a')).isFalse();
+        assertThatThrownBy(stats::getMostPopularCharacter).isInstanceOf(NoSuchElementException.class);
+    }
+}
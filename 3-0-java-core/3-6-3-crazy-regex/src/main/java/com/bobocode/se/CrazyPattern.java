@@ -0,0 +1,120 @@
+package com.bobocode.se;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CrazyPattern} is a registry of all patterns used by {@link CrazyRegex}. Every pattern is compiled once, when the
+ * registry is loaded, and then shared, since a {@link Pattern} is immutable and thread-safe.
+ * <p>
+ * A {@link Matcher} is not thread-safe, so {@link CrazyPattern#replaceAll(CharSequence, String)} reuses a matcher per
+ * thread instead of creating a new one for every call. The registry records the time it took to compile every
+ * pattern, and the number and the total time of replacements, which are printed by {@link CrazyPattern#report()}.
+ */
+public enum CrazyPattern {
+    SPECIFIC_WORD("Curiosity"),
+    FIRST_WORD("^\\w+"),
+    LAST_WORD("\\w+$"),
+    NUMBERS("\\d+"),
+    DATES("\\d{4}-\\d{2}-\\d{2}"),
+    SPELLINGS_OF_COLOR("colou?rs?"),
+    ZIP_CODES("\\s\\d{5}\\s"),
+    SPELLINGS_OF_LINK("l[yi (]nk"),
+    SIMPLE_PHONE_NUMBERS("\\d{3}-\\d{3}-\\d{4}"),
+    NUMBERS_FROM_ZERO_TO_FIVE_WITH_LENGTH_THREE("[0-5]{3}"),
+    WORDS_WITH_FIVE_LENGTH("\\b[A-Za-z]{5}\\b"),
+    LETTERS_AND_DIGITS_WITH_LENGTH_TWO_OR_THREE("\\b\\w{2,3}\\b"),
+    WORDS_BEGINNING_WITH_CAPITAL_LETTER("\\b[A-Z][a-z]*\\b"),
+    ABBREVIATIONS("A[KLRZ]|C[AOT]|P[RAD]"),
+    OPEN_BRACES("\\{+"),
+    RESOURCES("(?<=\\[)[^\\[\\]]+(?=])"),
+    LINKS_IN_NOTE("https://(www\\.)?[a-zA-Z]+\\.com"),
+    LINKS_IN_JSON("http://\\S+?\\.JPG"),
+    EMAILS("[\\w.]+@\\w+\\.(com|net|edu)"),
+    PHONE_NUMBERS("\\(?\\d{3}[-.)]\\d{3}[-.]\\d{4}"),
+    DUPLICATES("\\b(\\w+)\\s\\1\\b"),
+    LAST_AND_FIRST_NAMES("(\\w+),\\s+(\\w+)"),
+    PHONE_NUMBERS_WITH_AREA_CODE("\\(?(\\d{3})[-.)]\\d{3}[-.]\\d{4}"),
+    LINKS_WITH_RESOURCES("\\[(.*?)]\\((http.*?)\\)");
+
+    private final Pattern pattern;
+    private final long compileNanos;
+    private final ThreadLocal<Matcher> matchers;
+    private final LongAdder replacements = new LongAdder();
+    private final LongAdder replaceNanos = new LongAdder();
+
+    CrazyPattern(String regex) {
+        long start = System.nanoTime();
+        this.pattern = Pattern.compile(regex);
+        this.compileNanos = System.nanoTime() - start;
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    /**
+     * @return a compiled pattern shared by all callers
+     */
+    public Pattern pattern() {
+        return pattern;
+    }
+
+    /**
+     * Replaces every match of the pattern in the input, like {@link Matcher#replaceAll(String)}, using a matcher of the
+     * current thread.
+     *
+     * @param input       a text to search
+     * @param replacement a replacement string, that may refer to captured groups
+     * @return the text with all matches replaced
+     */
+    public String replaceAll(CharSequence input, String replacement) {
+        long start = System.nanoTime();
+        var matcher = matchers.get();
+        try {
+            return matcher.reset(input).replaceAll(replacement);
+        } finally {
+            // the matcher should not keep a large input reachable until the next call
+            matcher.reset("");
+            replaceNanos.add(System.nanoTime() - start);
+            replacements.increment();
+        }
+    }
+
+    /**
+     * @return the time it took to compile the pattern in nanoseconds
+     */
+    public long compileNanos() {
+        return compileNanos;
+    }
+
+    /**
+     * @return the number of {@link CrazyPattern#replaceAll(CharSequence, String)} calls
+     */
+    public long replacements() {
+        return replacements.sum();
+    }
+
+    /**
+     * @return the total time of {@link CrazyPattern#replaceAll(CharSequence, String)} calls in nanoseconds
+     */
+    public long replaceNanos() {
+        return replaceNanos.sum();
+    }
+
+    /**
+     * Returns a report with a line per pattern: its compile time, the number of replacements and their average time.
+     *
+     * @return a report of all patterns
+     */
+    public static String report() {
+        var report = new StringBuilder();
+        for (var crazyPattern : values()) {
+            long replacements = crazyPattern.replacements();
+            long averageReplaceNanos = replacements == 0 ? 0 : crazyPattern.replaceNanos() / replacements;
+            report.append(String.format("%-45s compile %6d us, %8d replacements, %8d ns per replacement%n",
+                    crazyPattern, TimeUnit.NANOSECONDS.toMicros(crazyPattern.compileNanos()),
+                    replacements, averageReplaceNanos));
+        }
+        return report.toString();
+    }
+}
@@ -1,15 +1,13 @@
 package com.bobocode.se;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
 import java.util.regex.Pattern;
 
 /**
  * {@link CrazyRegex} is an exercise class. Each method returns Pattern class which
- * should be created using regex expression. Every method that is not implemented yet
- * throws {@link ExerciseNotCompletedException}
+ * should be created using regex expression.
  * <p>
- * TODO: remove exception and implement each method of this class using {@link Pattern}
+ * All patterns are compiled once and shared through {@link CrazyPattern}, so methods can be called for every message
+ * without compiling a pattern again.
  *
  * @author Andriy Paliychuk
  */
@@ -21,7 +19,7 @@ public class CrazyRegex {
      * @return a pattern that looks for the word "Curiosity"
      */
     public Pattern findSpecificWord() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.SPECIFIC_WORD.pattern();
     }
 
     /**
@@ -30,7 +28,7 @@ public class CrazyRegex {
      * @return a pattern that looks for the first word in text
      */
     public Pattern findFirstWord() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.FIRST_WORD.pattern();
     }
 
     /**
@@ -39,7 +37,7 @@ public class CrazyRegex {
      * @return a pattern that looks for the last word in text
      */
     public Pattern findLastWord() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.LAST_WORD.pattern();
     }
 
     /**
@@ -50,7 +48,7 @@ public class CrazyRegex {
      * @return a pattern that looks for numbers
      */
     public Pattern findAllNumbers() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.NUMBERS.pattern();
     }
 
     /**
@@ -59,7 +57,7 @@ public class CrazyRegex {
      * @return a pattern that looks for dates
      */
     public Pattern findDates() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.DATES.pattern();
     }
 
     /**
@@ -69,7 +67,7 @@ public class CrazyRegex {
      * @return a pattern that looks for different variations of word "color"
      */
     public Pattern findDifferentSpellingsOfColor() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.SPELLINGS_OF_COLOR.pattern();
     }
 
     /**
@@ -80,7 +78,7 @@ public class CrazyRegex {
      * @return a pattern that looks for zip codes
      */
     public Pattern findZipCodes() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.ZIP_CODES.pattern();
     }
 
     /**
@@ -90,7 +88,7 @@ public class CrazyRegex {
      * @return a pattern that looks for different variations of word "link"
      */
     public Pattern findDifferentSpellingsOfLink() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.SPELLINGS_OF_LINK.pattern();
     }
 
     /**
@@ -100,7 +98,7 @@ public class CrazyRegex {
      * @return a pattern that looks for phone numbers
      */
     public Pattern findSimplePhoneNumber() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.SIMPLE_PHONE_NUMBERS.pattern();
     }
 
     /**
@@ -111,7 +109,7 @@ public class CrazyRegex {
      * @return a pattern that looks for numbers with length 3 and digits from 0 to 5 in the middle
      */
     public Pattern findNumbersFromZeroToFiveWithLengthThree() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.NUMBERS_FROM_ZERO_TO_FIVE_WITH_LENGTH_THREE.pattern();
     }
 
     /**
@@ -120,7 +118,7 @@ public class CrazyRegex {
      * @return a pattern that looks for the words that have length 5
      */
     public Pattern findAllWordsWithFiveLength() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.WORDS_WITH_FIVE_LENGTH.pattern();
     }
 
     /**
@@ -131,7 +129,7 @@ public class CrazyRegex {
      * @return a pattern that looks for words and numbers that not shorter 2 and not longer 3
      */
     public Pattern findAllLettersAndDigitsWithLengthThree() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.LETTERS_AND_DIGITS_WITH_LENGTH_TWO_OR_THREE.pattern();
     }
 
     /**
@@ -140,7 +138,7 @@ public class CrazyRegex {
      * @return a pattern that looks for the words that begin with capital letter
      */
     public Pattern findAllWordsWhichBeginWithCapitalLetter() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.WORDS_BEGINNING_WITH_CAPITAL_LETTER.pattern();
     }
 
     /**
@@ -150,7 +148,7 @@ public class CrazyRegex {
      * @return a pattern that looks for the abbreviations above
      */
     public Pattern findAbbreviation() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.ABBREVIATIONS.pattern();
     }
 
     /**
@@ -159,7 +157,7 @@ public class CrazyRegex {
      * @return a pattern that looks for all open braces
      */
     public Pattern findAllOpenBraces() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.OPEN_BRACES.pattern();
     }
 
     /**
@@ -168,7 +166,7 @@ public class CrazyRegex {
      * @return a pattern that looks for everything inside []
      */
     public Pattern findOnlyResources() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.RESOURCES.pattern();
     }
 
     /**
@@ -177,7 +175,7 @@ public class CrazyRegex {
      * @return a pattern that looks for all https links in note.txt
      */
     public Pattern findOnlyLinksInNote() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.LINKS_IN_NOTE.pattern();
     }
 
     /**
@@ -186,7 +184,7 @@ public class CrazyRegex {
      * @return a pattern that looks for all http links in nasa.json
      */
     public Pattern findOnlyLinksInJson() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.LINKS_IN_JSON.pattern();
     }
 
     /**
@@ -195,7 +193,7 @@ public class CrazyRegex {
      * @return a pattern that looks for all .com, .net and .edu emails
      */
     public Pattern findAllEmails() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.EMAILS.pattern();
     }
 
     /**
@@ -207,7 +205,7 @@ public class CrazyRegex {
      * @return a pattern that looks for phone numbers patterns above
      */
     public Pattern findAllPatternsForPhoneNumbers() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.PHONE_NUMBERS.pattern();
     }
 
     /**
@@ -216,7 +214,7 @@ public class CrazyRegex {
      * @return a pattern that looks for duplicates
      */
     public Pattern findOnlyDuplicates() {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.DUPLICATES.pattern();
     }
 
     /**
@@ -227,7 +225,7 @@ public class CrazyRegex {
      * @return String where all names recorded as last name first name
      */
     public String replaceFirstAndLastNames(String names) {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.LAST_AND_FIRST_NAMES.replaceAll(names, "$2 $1");
     }
 
     /**
@@ -238,7 +236,7 @@ public class CrazyRegex {
      * @return String where in all phone numbers last 7 digits replaced to X
      */
     public String replaceLastSevenDigitsOfPhoneNumberToX(String phones) {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.PHONE_NUMBERS_WITH_AREA_CODE.replaceAll(phones, "$1-XXX-XXXX");
     }
 
     /**
@@ -250,6 +248,6 @@ public class CrazyRegex {
      * @return String where all resources embraced in href
      */
     public String insertLinksAndResourcesIntoHref(String links) {
-        throw new ExerciseNotCompletedException();
+        return CrazyPattern.LINKS_WITH_RESOURCES.replaceAll(links, "<a href=\"$2\">$1</a>");
     }
 }
@@ -0,0 +1,147 @@
+package com.bobocode.se;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CrazyScanner} extracts emails, dates, phone numbers, zip codes and links from a text in a single pass, instead
+ * of running a {@link CrazyPattern} over the whole text for every kind of match.
+ * <p>
+ * Every kind of match starts with a specific character: an email has {@code '@'} after a run of word characters, a link
+ * starts with {@code "http"}, a date or a phone number starts with a digit or {@code '('}, and a zip code starts with a
+ * whitespace followed by a digit. The scanner reads the text once, and tries the pattern of a type only at positions,
+ * where that character is found. So a pattern is run on a few candidate positions instead of the whole text.
+ * <p>
+ * Matches do not overlap, a match found earlier wins, and a date wins over a phone number at the same position. Unless
+ * matches of different types overlap, the scanner finds the same matches as {@link Matcher#find()} of every pattern.
+ */
+public class CrazyScanner {
+    private static final Pattern LINKS = Pattern.compile(
+            CrazyPattern.LINKS_IN_NOTE.pattern().pattern() + "|" + CrazyPattern.LINKS_IN_JSON.pattern().pattern());
+
+    public enum Type {
+        EMAIL(CrazyPattern.EMAILS.pattern()),
+        LINK(LINKS),
+        DATE(CrazyPattern.DATES.pattern()),
+        PHONE(CrazyPattern.PHONE_NUMBERS.pattern()),
+        ZIP_CODE(CrazyPattern.ZIP_CODES.pattern());
+
+        private final Pattern pattern;
+
+        Type(Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * A match of a specific type.
+     *
+     * @param type  a type of the match
+     * @param start an index of the first char of the match
+     * @param end   an index after the last char of the match
+     * @param value matched text
+     */
+    public record Match(Type type, int start, int end, String value) {
+    }
+
+    /**
+     * Returns all matches in the text in the order they appear.
+     *
+     * @param text a text to scan
+     * @return a list of matches
+     */
+    public List<Match> scan(CharSequence text) {
+        Map<Type, Matcher> matchers = new EnumMap<>(Type.class);
+        for (var type : Type.values()) {
+            matchers.put(type, type.pattern.matcher(text).useTransparentBounds(true).useAnchoringBounds(false));
+        }
+        var matches = new ArrayList<Match>();
+        int length = text.length();
+        int lastEnd = 0;
+        int index = 0;
+        while (index < length) {
+            var match = matchAt(text, index, lastEnd, matchers);
+            if (match != null) {
+                matches.add(match);
+                lastEnd = match.end();
+                index = Math.max(match.end(), index + 1);
+            } else {
+                index++;
+            }
+        }
+        return matches;
+    }
+
+    private static Match matchAt(CharSequence text, int index, int lastEnd, Map<Type, Matcher> matchers) {
+        char c = text.charAt(index);
+        if (c == '@') {
+            // an email is found when its '@' is reached, and it starts at the beginning of the preceding word
+            int start = index;
+            while (start > lastEnd && isEmailNameChar(text.charAt(start - 1))) {
+                start--;
+            }
+            return start < index ? lookingAt(Type.EMAIL, start, matchers) : null;
+        }
+        if (c == 'h') {
+            return startsWith(text, index, "http") ? lookingAt(Type.LINK, index, matchers) : null;
+        }
+        if (isDigit(c) || c == '(') {
+            Match match = null;
+            if (isDigit(c) && charAt(text, index + 4) == '-') {
+                match = lookingAt(Type.DATE, index, matchers);
+            }
+            return match != null ? match : lookingAt(Type.PHONE, index, matchers);
+        }
+        if (isWhitespace(c) && isDigit(charAt(text, index + 1))) {
+            return lookingAt(Type.ZIP_CODE, index, matchers);
+        }
+        return null;
+    }
+
+    private static Match lookingAt(Type type, int start, Map<Type, Matcher> matchers) {
+        var matcher = matchers.get(type);
+        matcher.region(start, matcher.regionEnd());
+        if (matcher.lookingAt()) {
+            return new Match(type, matcher.start(), matcher.end(), matcher.group());
+        }
+        return null;
+    }
+
+    private static boolean startsWith(CharSequence text, int index, String prefix) {
+        if (index + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char charAt(CharSequence text, int index) {
+        return index < text.length() ? text.charAt(index) : 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Checks the chars of the {@code \s} class, which is narrower than {@link Character#isWhitespace(char)}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Checks the chars of the {@code [\w.]} class, that the name of an email consists of.
+     */
+    private static boolean isEmailNameChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '_' || c == '.';
+    }
+}
@@ -0,0 +1,62 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test class for {@link CrazyPattern}.
+ */
+public class CrazyPatternTest {
+
+    private final CrazyRegex crazyRegex = new CrazyRegex();
+
+    @Test
+    void patternsAreCompiledOnce() {
+        assertThat(crazyRegex.findAllEmails()).isSameAs(crazyRegex.findAllEmails());
+        assertThat(crazyRegex.findDates()).isSameAs(CrazyPattern.DATES.pattern());
+    }
+
+    @Test
+    void replaceAllFromManyThreads() throws InterruptedException, ExecutionException {
+        var executor = Executors.newFixedThreadPool(4);
+        var results = new ArrayList<Future<Boolean>>();
+        for (int task = 0; task < 4; task++) {
+            int id = task;
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    String names = "Last" + id + ", First" + i + " ... Other" + i + ", Name" + id;
+                    String phones = "(" + (100 + id) + ")555-" + (1000 + i) + " 111.747.6236";
+                    if (!crazyRegex.replaceFirstAndLastNames(names).equals("First" + i + " Last" + id + " ... Name" + id + " Other" + i)
+                            || !crazyRegex.replaceLastSevenDigitsOfPhoneNumberToX(phones).equals((100 + id) + "-XXX-XXXX 111-XXX-XXXX")) {
+                        return false;
+                    }
+                    Thread.yield();
+                }
+                return true;
+            }));
+        }
+        executor.shutdown();
+
+        for (var result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
+    @Test
+    void reportContainsTimingsOfAllPatterns() {
+        long replacements = CrazyPattern.LAST_AND_FIRST_NAMES.replacements();
+
+        crazyRegex.replaceFirstAndLastNames("Tarasenko, Nazar");
+
+        assertThat(CrazyPattern.LAST_AND_FIRST_NAMES.replacements()).isEqualTo(replacements + 1);
+        assertThat(CrazyPattern.LAST_AND_FIRST_NAMES.replaceNanos()).isPositive();
+        assertThat(CrazyPattern.report().lines()).hasSize(CrazyPattern.values().length)
+                .anyMatch(line -> line.startsWith("LAST_AND_FIRST_NAMES"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.bobocode.se;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A test class for {@link CrazyScanner}.
+ */
+public class CrazyScannerTest {
+
+    private final CrazyScanner scanner = new CrazyScanner();
+
+    private final String text = readWholeFile("note.txt");
+    private final String json = readWholeFile("nasa.json");
+
+    @Test
+    void scanFindsTheSameMatchesAsEveryPatternInNote() {
+        var matches = scanner.scan(text);
+
+        assertThat(values(matches, CrazyScanner.Type.EMAIL)).isEqualTo(find(CrazyPattern.EMAILS.pattern(), text));
+        assertThat(values(matches, CrazyScanner.Type.PHONE)).isEqualTo(find(CrazyPattern.PHONE_NUMBERS.pattern(), text));
+        assertThat(values(matches, CrazyScanner.Type.ZIP_CODE)).isEqualTo(find(CrazyPattern.ZIP_CODES.pattern(), text));
+        assertThat(values(matches, CrazyScanner.Type.LINK)).isEqualTo(find(CrazyPattern.LINKS_IN_NOTE.pattern(), text));
+        assertThat(values(matches, CrazyScanner.Type.DATE)).isEmpty();
+    }
+
+    @Test
+    void scanFindsTheSameMatchesAsEveryPatternInJson() {
+        var matches = scanner.scan(json);
+
+        assertThat(values(matches, CrazyScanner.Type.DATE)).isEqualTo(find(CrazyPattern.DATES.pattern(), json));
+        assertThat(values(matches, CrazyScanner.Type.LINK)).isEqualTo(find(CrazyPattern.LINKS_IN_JSON.pattern(), json));
+        assertThat(values(matches, CrazyScanner.Type.EMAIL)).isEqualTo(find(CrazyPattern.EMAILS.pattern(), json));
+        assertThat(values(matches, CrazyScanner.Type.PHONE)).isEqualTo(find(CrazyPattern.PHONE_NUMBERS.pattern(), json));
+    }
+
+    @Test
+    void matchesHaveOffsetsInOrder() {
+        String message = "Call (412)555-1212 or mail john.smith@yahoo.com before 2015-05-30, see https://www.google.com";
+
+        var matches = scanner.scan(message);
+
+        assertThat(matches).extracting(CrazyScanner.Match::type).containsExactly(
+                CrazyScanner.Type.PHONE, CrazyScanner.Type.EMAIL, CrazyScanner.Type.DATE, CrazyScanner.Type.LINK);
+        for (var match : matches) {
+            assertThat(message.substring(match.start(), match.end())).isEqualTo(match.value());
+        }
+        assertThat(matches.get(1).start()).isEqualTo(message.indexOf("john"));
+    }
+
+    private static List<String> values(List<CrazyScanner.Match> matches, CrazyScanner.Type type) {
+        return matches.stream()
+                .filter(match -> match.type() == type)
+                .map(CrazyScanner.Match::value)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> find(Pattern pattern, String input) {
+        var matcher = pattern.matcher(input);
+        var values = new ArrayList<String>();
+        while (matcher.find()) {
+            values.add(matcher.group());
+        }
+        return values;
+    }
+
+    @SneakyThrows
+    private String readWholeFile(String fileName) {
+        Path filePath = Paths.get(CrazyScanner.class.getClassLoader()
+                .getResource(fileName)
+                .toURI());
+        try (Stream<String> fileLinesStream = Files.lines(filePath)) {
+            return fileLinesStream.collect(joining("\n"));
+        }
+    }
+}